@@ -0,0 +1,83 @@
+package com.server.calendar.todo.service;
+
+import com.server.calendar.doamin.Category;
+import com.server.calendar.todo.dto.DailyTodoCount;
+import com.server.calendar.todo.dto.GetOneMonthDto;
+import com.server.calendar.todo.dto.getOneDayTodoListDto;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 한 달 조회에서 DB 조회를 뺀 집계 부분 (날짜별 통계 + 펼친 반복 할 일)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MonthAggregationBenchmark {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 5);
+
+    // 통계 행이 있는 날 수
+    @Param({"0", "10", "31"})
+    private int daysWithTodos;
+
+    // 하루에 펼쳐지는 반복 할 일 수
+    @Param({"0", "5", "50"})
+    private int recurringPerDay;
+
+    private List<DailyTodoCount> counts;
+    private Map<LocalDate, List<getOneDayTodoListDto>> recurring;
+
+    @Setup
+    public void setUp() {
+        counts = new ArrayList<>();
+        for (int day = 1; day <= daysWithTodos; day++) {
+            counts.add(new Count(MONTH.atDay(day), day % 3, day % 5 + 1));
+        }
+
+        recurring = new TreeMap<>();
+        if (recurringPerDay > 0) {
+            for (int day = 1; day <= MONTH.lengthOfMonth(); day++) {
+                List<getOneDayTodoListDto> occurrences = new ArrayList<>();
+                for (int i = 0; i < recurringPerDay; i++) {
+                    occurrences.add(new getOneDayTodoListDto(null, "routine" + i, Category.DAILY, i % 2 == 0, (long) i));
+                }
+                recurring.put(MONTH.atDay(day), occurrences);
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, GetOneMonthDto> aggregateMonth() {
+        return TodoServiceImpl.aggregateMonth(MONTH, counts, recurring);
+    }
+
+    private record Count(LocalDate date, long done, long notDone) implements DailyTodoCount {
+
+        @Override
+        public LocalDate getDate() {
+            return date;
+        }
+
+        @Override
+        public Long getDoneCount() {
+            return done;
+        }
+
+        @Override
+        public Long getNotDoneCount() {
+            return notDone;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.server.calendar.util.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 모든 인증 요청이 거치는 토큰 발급/검증 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        // application.properties 와 같은 키/알고리즘
+        jwtTokenProvider = new JwtTokenProvider("c0bb9a9cdbcf8de93ceb7e0deff12f2aff3cabec9c652a45584a97cf8fbcfd91", "HS256", "");
+        token = jwtTokenProvider.createToken("benchuser1");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken("benchuser1");
+    }
+
+    @Benchmark
+    public Claims getClaimsFromToken() {
+        return jwtTokenProvider.getClaimsFromToken(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal parseToken() {
+        return jwtTokenProvider.parseToken(token);
+    }
+}
@@ -0,0 +1,73 @@
+package com.server.calendar.util.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.calendar.doamin.Category;
+import com.server.calendar.todo.dto.GetOneMonthDto;
+import com.server.calendar.todo.dto.getOneDayTodoListDto;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 하루/한 달 조회 응답 본문 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CustomApiResponse<Map<Integer, GetOneMonthDto>> monthResponse;
+
+    @Setup
+    public void setUp() {
+        // 스프링 MVC 메시지 컨버터와 같은 설정의 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Map<Integer, GetOneMonthDto> month = new HashMap<>();
+        for (int i = 1; i <= 31; i++) {
+            month.put(i, GetOneMonthDto.builder().doneCount(i % 4).notDoneCount(i % 7).build());
+        }
+        monthResponse = CustomApiResponse.createSuccess(200, month, "한 달 조회 성공");
+    }
+
+    @Benchmark
+    public byte[] serializeDay(DayPayload payload) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(payload.response);
+    }
+
+    @Benchmark
+    public byte[] serializeMonth() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(monthResponse);
+    }
+
+    @State(Scope.Benchmark)
+    public static class DayPayload {
+
+        // 하루 목록의 할 일 수
+        @Param({"10", "100", "1000"})
+        private int todos;
+
+        private CustomApiResponse<List<getOneDayTodoListDto>> response;
+
+        @Setup
+        public void setUp() {
+            List<getOneDayTodoListDto> day = new ArrayList<>();
+            Category[] categories = Category.values();
+            for (int i = 0; i < todos; i++) {
+                day.add(new getOneDayTodoListDto((long) i, "할 일 " + i, categories[i % categories.length], i % 2 == 0));
+            }
+            response = CustomApiResponse.createSuccess(200, day, "하루 조회 성공");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.server.calendar.util.valid;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+// 입력 형식 검사 (정규식) 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomValidBenchmark {
+
+    private String email = "someone.name+tag@example-mail.com";
+    private String invalidEmail = "someone.name@@example";
+    private String phone = "01012345678";
+    private String userId = "calendaruser2024";
+
+    @Benchmark
+    public boolean isEmailValid() {
+        return CustomValid.isEmailValid(email);
+    }
+
+    @Benchmark
+    public boolean isEmailInvalid() {
+        return CustomValid.isEmailValid(invalidEmail);
+    }
+
+    @Benchmark
+    public boolean isPhoneValid() {
+        return CustomValid.isPhoneValid(phone);
+    }
+
+    @Benchmark
+    public boolean isUserIdValid() {
+        return CustomValid.isUserIdValid(userId);
+    }
+}
@@ -0,0 +1,73 @@
+package com.server.calendar.admin.controller;
+
+import com.server.calendar.admin.service.AdminService;
+import com.server.calendar.util.response.CustomApiResponse;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final AdminService adminService;
+
+    // 사용자 키 캐시 적중/미스 통계
+    @GetMapping("/cache/userKey")
+    public ResponseEntity<CustomApiResponse<?>> getUserKeyCacheStats() {
+        return adminService.getUserKeyCacheStats();
+    }
+
+    // 하루 할 일 목록 캐시 적중/미스 통계
+    @GetMapping("/cache/todoDay")
+    public ResponseEntity<CustomApiResponse<?>> getTodoDayCacheStats() {
+        return adminService.getTodoDayCacheStats();
+    }
+
+    // Hibernate 2차 캐시 영역별 통계 (hibernate.generate_statistics 가 켜져 있어야 집계됨)
+    @GetMapping("/cache/regions")
+    public ResponseEntity<CustomApiResponse<?>> getCacheRegionStats() {
+        return adminService.getCacheRegionStats();
+    }
+
+    // TodoLists 로부터 하루 통계 재계산 (userId 또는 from~to)
+    @PostMapping("/stats/reconcile")
+    public ResponseEntity<CustomApiResponse<?>> reconcileDailyStats(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return adminService.reconcileDailyStats(userId, from, to);
+    }
+
+    // TodoLists 로부터 미완료 개수 카운터 재계산 (userId 가 없으면 전체)
+    @PostMapping("/counters/notDone/recompute")
+    public ResponseEntity<CustomApiResponse<?>> recomputeNotDoneCount(@RequestParam(required = false) String userId) {
+        return adminService.recomputeNotDoneCount(userId);
+    }
+
+    // 샤드별 사용자 수와 커넥션 풀 상태
+    @GetMapping("/shards")
+    public ResponseEntity<CustomApiResponse<?>> getShardStats() {
+        return adminService.getShardStats();
+    }
+
+    // 한 사용자의 데이터를 다른 샤드로 옮김
+    @PostMapping("/shards/move")
+    public ResponseEntity<CustomApiResponse<?>> moveUserShard(@RequestParam String userId, @RequestParam int shard) {
+        return adminService.moveUserShard(userId, shard);
+    }
+
+    // 사용자 수가 고르게 되도록 최대 maxMoves 명을 옮김
+    @PostMapping("/shards/rebalance")
+    public ResponseEntity<CustomApiResponse<?>> rebalanceShards(@RequestParam(defaultValue = "100") int maxMoves) {
+        return adminService.rebalanceShards(maxMoves);
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.server.calendar.admin.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CacheRegionStatsDto {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCount;
+}
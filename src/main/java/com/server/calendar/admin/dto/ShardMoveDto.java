@@ -0,0 +1,13 @@
+package com.server.calendar.admin.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ShardMoveDto {
+    private String userId;
+    private int fromShard;
+    private int toShard;
+    private long todoCount;
+}
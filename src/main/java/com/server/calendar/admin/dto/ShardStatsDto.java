@@ -0,0 +1,13 @@
+package com.server.calendar.admin.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ShardStatsDto {
+    private int shard;
+    private long userCount;
+    private int activeConnections;
+    private int idleConnections;
+}
@@ -0,0 +1,18 @@
+package com.server.calendar.admin.service;
+
+import com.server.calendar.util.response.CustomApiResponse;
+import java.time.LocalDate;
+import org.springframework.http.ResponseEntity;
+
+public interface AdminService {
+
+    ResponseEntity<CustomApiResponse<?>> getUserKeyCacheStats();
+    ResponseEntity<CustomApiResponse<?>> getTodoDayCacheStats();
+    ResponseEntity<CustomApiResponse<?>> getCacheRegionStats();
+    ResponseEntity<CustomApiResponse<?>> reconcileDailyStats(String userId, LocalDate startDate, LocalDate endDate);
+    ResponseEntity<CustomApiResponse<?>> recomputeNotDoneCount(String userId);
+    ResponseEntity<CustomApiResponse<?>> getShardStats();
+    ResponseEntity<CustomApiResponse<?>> moveUserShard(String userId, int shard);
+    ResponseEntity<CustomApiResponse<?>> rebalanceShards(int maxMoves);
+
+}
@@ -0,0 +1,181 @@
+package com.server.calendar.admin.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.server.calendar.admin.dto.CacheRegionStatsDto;
+import com.server.calendar.admin.dto.CacheStatsDto;
+import com.server.calendar.admin.dto.ShardMoveDto;
+import com.server.calendar.admin.dto.ShardStatsDto;
+import com.server.calendar.todo.cache.TodoDayCache;
+import com.server.calendar.todo.dto.ReconcileResultDto;
+import com.server.calendar.todo.service.DailyTodoStatsReconciler;
+import com.server.calendar.todo.service.NotDoneCounter;
+import com.server.calendar.user.cache.UserKeyCache;
+import com.server.calendar.util.config.CacheConfig;
+import com.server.calendar.util.datasource.JdbcShardDirectory;
+import com.server.calendar.util.datasource.ShardContext;
+import com.server.calendar.util.datasource.ShardDataSources;
+import com.server.calendar.util.datasource.ShardDirectory;
+import com.server.calendar.util.exception.CustomValidationException;
+import com.server.calendar.util.response.CustomApiResponse;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class AdminServiceImpl implements AdminService {
+
+    private final UserKeyCache userKeyCache;
+    private final TodoDayCache todoDayCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DailyTodoStatsReconciler dailyTodoStatsReconciler;
+    private final NotDoneCounter notDoneCounter;
+    private final ShardDirectory shardDirectory;
+    // 샤딩을 켠 경우에만 존재
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+    private final ObjectProvider<ShardRebalancer> shardRebalancer;
+
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> getUserKeyCacheStats() {
+        CacheStats stats = userKeyCache.stats();
+
+        CacheStatsDto dto = CacheStatsDto.builder()
+                .size(userKeyCache.size())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+
+        CustomApiResponse<CacheStatsDto> response = CustomApiResponse.createSuccess(200, dto, "사용자 키 캐시 통계 조회 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> getTodoDayCacheStats() {
+        CacheStats stats = todoDayCache.stats();
+
+        CacheStatsDto dto = CacheStatsDto.builder()
+                .size(todoDayCache.size())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+
+        CustomApiResponse<CacheStatsDto> response = CustomApiResponse.createSuccess(200, dto, "하루 할 일 캐시 통계 조회 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> getCacheRegionStats() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        List<CacheRegionStatsDto> stats = new ArrayList<>();
+        for (String region : List.of(CacheConfig.USER_REGION, CacheConfig.USER_QUERY_REGION)) {
+            // 아직 한 번도 쓰이지 않은 쿼리 캐시 영역은 없음
+            CacheRegionStatistics regionStats = sessionFactory.getStatistics().getCacheRegionStatistics(region);
+            if (regionStats == null) {
+                continue;
+            }
+            stats.add(CacheRegionStatsDto.builder()
+                    .region(region)
+                    .hitCount(regionStats.getHitCount())
+                    .missCount(regionStats.getMissCount())
+                    .putCount(regionStats.getPutCount())
+                    .elementCount(regionStats.getElementCountInMemory())
+                    .build());
+        }
+
+        CustomApiResponse<List<CacheRegionStatsDto>> response = CustomApiResponse.createSuccess(200, stats, "2차 캐시 통계 조회 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> reconcileDailyStats(String userId, LocalDate startDate, LocalDate endDate) {
+        ReconcileResultDto result;
+
+        if (userId != null) {
+            // 한 사용자의 전체 기간
+            result = ShardContext.call(shardDirectory.shardOf(userId),
+                    () -> dailyTodoStatsReconciler.reconcileUser(userKeyCache.getUserKey(userId)));
+        } else if (startDate != null && endDate != null && !startDate.isAfter(endDate)) {
+            // 기간 안의 모든 사용자
+            result = dailyTodoStatsReconciler.reconcileRange(startDate, endDate);
+        } else {
+            throw new CustomValidationException("userId 또는 올바른 기간(from, to)이 필요합니다.");
+        }
+
+        CustomApiResponse<ReconcileResultDto> response = CustomApiResponse.createSuccess(200, result, "하루 통계 재계산 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> recomputeNotDoneCount(String userId) {
+        if (userId == null) {
+            // 모든 사용자의 카운터를 다시 계산 (샤드마다 트랜잭션 하나)
+            int recomputed = 0;
+            for (int shard = 0; shard < shardDirectory.shardCount(); shard++) {
+                recomputed += ShardContext.call(shard, notDoneCounter::recomputeAll);
+            }
+            CustomApiResponse<Integer> response = CustomApiResponse.createSuccess(200, recomputed, "전체 미완료 개수 재계산 성공");
+            return ResponseEntity.ok(response);
+        }
+
+        long count = ShardContext.call(shardDirectory.shardOf(userId),
+                () -> notDoneCounter.recompute(userKeyCache.getUserKey(userId)));
+        CustomApiResponse<Long> response = CustomApiResponse.createSuccess(200, count, "미완료 개수 재계산 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> getShardStats() {
+        ShardDataSources dataSources = requireSharding(shardDataSources);
+        long[] userCounts = ((JdbcShardDirectory) shardDirectory).countByShard();
+
+        List<ShardStatsDto> stats = new ArrayList<>();
+        for (int shard = 0; shard < dataSources.size(); shard++) {
+            // 아직 커넥션을 한 번도 만들지 않은 풀은 MXBean 이 없음
+            HikariPoolMXBean pool = dataSources.get(shard).getHikariPoolMXBean();
+            stats.add(ShardStatsDto.builder()
+                    .shard(shard)
+                    .userCount(userCounts[shard])
+                    .activeConnections(pool != null ? pool.getActiveConnections() : 0)
+                    .idleConnections(pool != null ? pool.getIdleConnections() : 0)
+                    .build());
+        }
+
+        CustomApiResponse<List<ShardStatsDto>> response = CustomApiResponse.createSuccess(200, stats, "샤드 현황 조회 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> moveUserShard(String userId, int shard) {
+        ShardMoveDto move = requireSharding(shardRebalancer).move(userId, shard);
+        CustomApiResponse<ShardMoveDto> response = CustomApiResponse.createSuccess(200, move, "사용자 샤드 이동 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> rebalanceShards(int maxMoves) {
+        List<ShardMoveDto> moves = requireSharding(shardRebalancer).rebalance(maxMoves);
+        CustomApiResponse<List<ShardMoveDto>> response = CustomApiResponse.createSuccess(200, moves, "샤드 재분배 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    private static <T> T requireSharding(ObjectProvider<T> provider) {
+        T bean = provider.getIfAvailable();
+        if (bean == null) {
+            throw new CustomValidationException("샤딩(datasource.shard.urls)이 설정되어 있지 않습니다.");
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,225 @@
+package com.server.calendar.admin.service;
+
+import com.server.calendar.admin.dto.ShardMoveDto;
+import com.server.calendar.todo.service.TodoVersions;
+import com.server.calendar.util.datasource.JdbcShardDirectory;
+import com.server.calendar.util.datasource.ShardDataSources;
+import com.server.calendar.util.exception.CustomValidationException;
+import com.server.calendar.util.exception.EntityNotFoundException;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 사용자 한 명의 데이터를 다른 샤드로 복사한 뒤 디렉터리를 바꾸고 원래 샤드에서 지움
+// 1. 디렉터리에 "옮기는 중" 표시 -> settle-time 동안 기다림 (다른 서버의 디렉터리 캐시와 진행 중인 요청이 끝나도록)
+// 2. 대상 샤드에 한 트랜잭션으로 복사 -> 디렉터리를 대상 샤드로 변경
+// 3. 원래 샤드에서 삭제 (실패해도 디렉터리는 이미 바뀌었으므로 남은 행은 쓰이지 않음)
+// USERS.id 와 할 일 id 는 모든 샤드에서 겹치지 않으므로 그대로 옮기고, 반복 할 일 id 는 대상 샤드에서 새로 발급됨
+// (반복 할 일 id 가 바뀌므로 사용자 전체 버전을 올려 ETag 와 다른 서버의 하루 목록 캐시를 무효화)
+@Slf4j
+public class ShardRebalancer {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ShardDataSources shardDataSources;
+    private final JdbcShardDirectory shardDirectory;
+    private final Duration settleTime;
+
+    public ShardRebalancer(ShardDataSources shardDataSources, JdbcShardDirectory shardDirectory, Duration settleTime) {
+        this.shardDataSources = shardDataSources;
+        this.shardDirectory = shardDirectory;
+        this.settleTime = settleTime;
+    }
+
+    public ShardMoveDto move(String userId, int targetShard) {
+        if (targetShard < 0 || targetShard >= shardDataSources.size()) {
+            throw new CustomValidationException("존재하지 않는 샤드입니다.");
+        }
+        JdbcShardDirectory.Entry entry = findEntry(userId);
+        if (entry.getShard() == targetShard) {
+            return ShardMoveDto.builder().userId(userId).fromShard(targetShard).toShard(targetShard).build();
+        }
+
+        shardDirectory.setMoving(userId, true);
+        settle();
+        return transfer(userId, entry, targetShard);
+    }
+
+    // 사용자가 가장 많은 샤드에서 가장 적은 샤드로, 차이가 1 이하가 되거나 maxMoves 만큼 옮김
+    public List<ShardMoveDto> rebalance(int maxMoves) {
+        long[] counts = shardDirectory.countByShard();
+        Map<String, Integer> plan = new HashMap<>();
+        Map<Integer, Integer> taken = new HashMap<>();
+        while (plan.size() < maxMoves) {
+            int fullest = 0;
+            int emptiest = 0;
+            for (int shard = 1; shard < counts.length; shard++) {
+                fullest = counts[shard] > counts[fullest] ? shard : fullest;
+                emptiest = counts[shard] < counts[emptiest] ? shard : emptiest;
+            }
+            if (counts[fullest] - counts[emptiest] <= 1) {
+                break;
+            }
+            int skip = taken.merge(fullest, 1, Integer::sum);
+            List<String> candidates = shardDirectory.recentUserIds(fullest, skip);
+            if (candidates.size() < skip) {
+                break;
+            }
+            plan.put(candidates.get(skip - 1), emptiest);
+            counts[fullest]--;
+            counts[emptiest]++;
+        }
+
+        // 옮길 사용자를 한꺼번에 표시하고 한 번만 기다림
+        plan.keySet().forEach(userId -> shardDirectory.setMoving(userId, true));
+        settle();
+
+        List<ShardMoveDto> moves = new ArrayList<>();
+        plan.forEach((userId, targetShard) -> {
+            try {
+                moves.add(transfer(userId, findEntry(userId), targetShard));
+            } catch (RuntimeException e) {
+                log.error("shard move failed: userId={}, targetShard={}", userId, targetShard, e);
+            }
+        });
+        return moves;
+    }
+
+    private ShardMoveDto transfer(String userId, JdbcShardDirectory.Entry entry, int targetShard) {
+        long userKey = entry.getUserKey();
+        int sourceShard = entry.getShard();
+        JdbcTemplate source = new JdbcTemplate(shardDataSources.get(sourceShard));
+        JdbcTemplate target = new JdbcTemplate(shardDataSources.get(targetShard));
+
+        long todoCount;
+        try {
+            todoCount = transaction(targetShard).execute(status -> copy(source, target, userKey));
+            shardDirectory.moveTo(userId, targetShard);
+        } catch (RuntimeException e) {
+            shardDirectory.setMoving(userId, false);
+            throw e;
+        }
+
+        try {
+            transaction(sourceShard).executeWithoutResult(status -> delete(source, userKey));
+        } catch (RuntimeException e) {
+            log.warn("rows left on source shard after move: userKey={}, shard={}", userKey, sourceShard, e);
+        }
+
+        log.info("user moved: userKey={}, {} -> {}, todos={}", userKey, sourceShard, targetShard, todoCount);
+        return ShardMoveDto.builder()
+                .userId(userId)
+                .fromShard(sourceShard)
+                .toShard(targetShard)
+                .todoCount(todoCount)
+                .build();
+    }
+
+    private long copy(JdbcTemplate source, JdbcTemplate target, long userKey) {
+        copyRows(source, target, "select id, user_id, email, password from users where id = ?",
+                "insert into users (id, user_id, email, password) values (?, ?, ?, ?)", userKey);
+        long todoCount = copyRows(source, target,
+                "select id, date, title, category, is_done, user_id from todo_lists where user_id = ?",
+                "insert into todo_lists (id, date, title, category, is_done, user_id) values (?, ?, ?, ?, ?, ?)", userKey);
+        copyRows(source, target, "select user_id, date, done_count, not_done_count from daily_todo_stats where user_id = ?",
+                "insert into daily_todo_stats (user_id, date, done_count, not_done_count) values (?, ?, ?, ?)", userKey);
+        copyRows(source, target, "select user_id, not_done_count from user_todo_counters where user_id = ?",
+                "insert into user_todo_counters (user_id, not_done_count) values (?, ?)", userKey);
+        copyRows(source, target, "select user_id, month_key, version from todo_month_versions where user_id = ?",
+                "insert into todo_month_versions (user_id, month_key, version) values (?, ?, ?)", userKey);
+        if (copyRecurringTodos(source, target, userKey) > 0) {
+            target.update("insert into todo_month_versions (user_id, month_key, version) values (?, ?, 1) "
+                    + "on duplicate key update version = version + 1", userKey, TodoVersions.ALL_MONTHS);
+        }
+        return todoCount;
+    }
+
+    // 반복 할 일은 AUTO_INCREMENT id 라 대상 샤드에서 새 id 를 받고, 완료 기록은 새 id 로 연결 (옮긴 규칙 수 반환)
+    private int copyRecurringTodos(JdbcTemplate source, JdbcTemplate target, long userKey) {
+        Map<Long, Long> newIds = new HashMap<>();
+        source.query("select id, user_id, title, category, frequency, interval_count, by_day, start_date, until_date "
+                + "from recurring_todos where user_id = ?", row -> {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            target.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "insert into recurring_todos (user_id, title, category, frequency, interval_count, by_day, start_date, until_date) "
+                                + "values (?, ?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+                for (int column = 2; column <= 9; column++) {
+                    statement.setObject(column - 1, row.getObject(column));
+                }
+                return statement;
+            }, keyHolder);
+            newIds.put(row.getLong(1), keyHolder.getKey().longValue());
+        }, userKey);
+
+        List<Object[]> completions = new ArrayList<>();
+        source.query("select recurring_todo_id, user_id, date from recurring_todo_completions where user_id = ?", row -> {
+            completions.add(new Object[]{newIds.get(row.getLong(1)), row.getObject(2), row.getObject(3)});
+        }, userKey);
+        target.batchUpdate("insert into recurring_todo_completions (recurring_todo_id, user_id, date) values (?, ?, ?)", completions);
+        return newIds.size();
+    }
+
+    private void delete(JdbcTemplate source, long userKey) {
+        for (String table : new String[]{"recurring_todo_completions", "recurring_todos", "todo_month_versions",
+                "user_todo_counters", "daily_todo_stats", "todo_lists"}) {
+            source.update("delete from " + table + " where user_id = ?", userKey);
+        }
+        source.update("delete from users where id = ?", userKey);
+    }
+
+    // 선택한 열 순서 그대로 BATCH_SIZE 행씩 넣음
+    private long copyRows(JdbcTemplate source, JdbcTemplate target, String select, String insert, long userKey) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long[] copied = {0};
+        source.query(select, row -> {
+            int columns = row.getMetaData().getColumnCount();
+            Object[] values = new Object[columns];
+            for (int column = 1; column <= columns; column++) {
+                values[column - 1] = row.getObject(column);
+            }
+            batch.add(values);
+            if (batch.size() == BATCH_SIZE) {
+                target.batchUpdate(insert, batch);
+                copied[0] += batch.size();
+                batch.clear();
+            }
+        }, userKey);
+        if (!batch.isEmpty()) {
+            target.batchUpdate(insert, batch);
+            copied[0] += batch.size();
+        }
+        return copied[0];
+    }
+
+    private TransactionTemplate transaction(int shard) {
+        return new TransactionTemplate(new DataSourceTransactionManager(shardDataSources.get(shard)));
+    }
+
+    private JdbcShardDirectory.Entry findEntry(String userId) {
+        JdbcShardDirectory.Entry entry = shardDirectory.find(userId);
+        if (entry == null) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        return entry;
+    }
+
+    private void settle() {
+        try {
+            Thread.sleep(settleTime.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for shard move", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.server.calendar.doamin;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별 하루 완료/미완료 개수 (할 일 변경과 같은 트랜잭션에서 갱신)
+@Entity
+@Table(name = "daily_todo_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_todo_stats_user_date", columnNames = {"user_id", "date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyTodoStats {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    private LocalDate date;
+
+    @Column(name = "done_count")
+    private Long doneCount;
+
+    @Column(name = "not_done_count")
+    private Long notDoneCount;
+}
@@ -0,0 +1,6 @@
+package com.server.calendar.doamin;
+
+
+public enum RecurrenceFrequency {
+    DAILY, WEEKLY, MONTHLY
+}
@@ -0,0 +1,60 @@
+package com.server.calendar.doamin;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 반복 할 일 규칙 (날짜마다 행을 만들지 않고 조회할 때 요청 기간만큼 펼침)
+@Entity
+@Table(name = "recurring_todos")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecurringTodo {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    private RecurrenceFrequency frequency;
+
+    // INTERVAL (n일/n주/n달마다)
+    @Column(name = "interval_count")
+    private Integer intervalCount;
+
+    // WEEKLY 의 BYDAY (예: MO,WE,FR), 없으면 시작일의 요일 (시작일은 BYDAY 와 상관없이 항상 첫 번째 반복)
+    @Column(name = "by_day")
+    private String byDay;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    // 마지막으로 나올 수 있는 날짜 (COUNT 는 만들 때 날짜로 바꿔서 저장), 없으면 끝 없음
+    @Column(name = "until_date")
+    private LocalDate untilDate;
+}
@@ -0,0 +1,35 @@
+package com.server.calendar.doamin;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 반복 할 일 중 완료한 날짜만 저장 (행이 없으면 미완료)
+@Entity
+@Table(name = "recurring_todo_completions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_recurring_todo_completions_todo_date", columnNames = {"recurring_todo_id", "date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecurringTodoCompletion {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "recurring_todo_id")
+    private Long recurringTodoId;
+
+    // 기간 조회용 (USERS.id)
+    @Column(name = "user_id")
+    private Long userKey;
+
+    private LocalDate date;
+}
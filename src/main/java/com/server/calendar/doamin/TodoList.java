@@ -1,9 +1,9 @@
 package com.server.calendar.doamin;
 
-import com.server.calendar.todo.dto.ChangeTitleDto;
 import com.server.calendar.todo.dto.CreateTodoDto;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -12,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import lombok.AllArgsConstructor;
@@ -27,7 +28,10 @@ import lombok.NoArgsConstructor;
 @Builder
 public class TodoList {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 Hibernate 의 insert 배치를 막으므로 50개 단위로 id 를 미리 할당받는 테이블 생성기 사용
+    @Id @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_list_id")
+    @TableGenerator(name = "todo_list_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "todo_lists", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -42,20 +46,11 @@ public class TodoList {
     @Column(name = "is_done")
     private Boolean isDone = false;
 
-    @ManyToOne
+    // 목록 조회는 projection 으로 처리하므로 USERS 행은 필요할 때만 읽음
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    // 상태 바꾸기
-    public void changeDoneStatus() {
-        this.isDone = !this.isDone;
-    }
-
-    // 할 일 바꾸기
-    public void changeTitle(ChangeTitleDto dto) {
-        this.title = dto.getTitle();
-    }
-
     // 할 일 생성
     public static TodoList toEntity(CreateTodoDto dto) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -0,0 +1,42 @@
+package com.server.calendar.doamin;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별, 월별 할 일 버전 (할 일이 바뀔 때마다 같은 트랜잭션에서 1씩 증가, 조회 응답의 ETag 로 사용)
+@Entity
+@Table(name = "todo_month_versions")
+@IdClass(TodoMonthVersion.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TodoMonthVersion {
+
+    // USERS.id
+    @Id
+    @Column(name = "user_id")
+    private Long userKey;
+
+    // yyyyMM (예: 202405)
+    @Id
+    @Column(name = "month_key")
+    private Integer monthKey;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long userKey;
+        private Integer monthKey;
+    }
+}
@@ -0,0 +1,25 @@
+package com.server.calendar.doamin;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별 미완료 할 일 개수 (할 일 변경과 같은 트랜잭션에서 갱신)
+@Entity
+@Table(name = "user_todo_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserTodoCounter {
+
+    // USERS.id
+    @Id
+    @Column(name = "user_id")
+    private Long userKey;
+
+    @Column(name = "not_done_count")
+    private Long notDoneCount;
+}
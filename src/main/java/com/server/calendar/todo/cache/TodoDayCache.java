@@ -0,0 +1,88 @@
+package com.server.calendar.todo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.server.calendar.todo.dto.getOneDayTodoListDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 사용자별 하루 할 일 목록 캐시 (USERS.id -> 날짜 -> ETag 와 목록)
+// 저장할 때의 ETag 가 지금 ETag 와 같을 때만 사용하므로 다른 서버에서 바뀐 목록은 자동으로 버려짐
+// 대신 캐시가 맞아도 ETag 를 만들 월 버전 행(todo_month_versions 기본 키 조회 1번)은 매번 읽음
+// (버전까지 서버 메모리에 두면 다른 서버의 변경을 알 수 없어서 오래된 목록을 돌려주게 됨)
+@Component
+public class TodoDayCache {
+
+    private final Cache<Long, Map<LocalDate, DayEntry>> cache;
+    private final int maxDaysPerUser;
+
+    public TodoDayCache(MeterRegistry meterRegistry,
+                        @Value("${cache.todo-day.maximum-size:10000}") long maximumSize,
+                        @Value("${cache.todo-day.max-days-per-user:31}") int maxDaysPerUser,
+                        @Value("${cache.todo-day.expire-after-access:10m}") Duration expireAfterAccess) {
+        this.maxDaysPerUser = maxDaysPerUser;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "todoDay");
+    }
+
+    // 버전이 다르면 없는 것으로 취급
+    public List<getOneDayTodoListDto> get(Long userKey, LocalDate date, String eTag) {
+        Map<LocalDate, DayEntry> days = cache.getIfPresent(userKey);
+        DayEntry entry = days == null ? null : days.get(date);
+        return entry != null && entry.getETag().equals(eTag) ? entry.getTodos() : null;
+    }
+
+    public void put(Long userKey, LocalDate date, String eTag, List<getOneDayTodoListDto> todos) {
+        Map<LocalDate, DayEntry> days = cache.get(userKey, key -> new ConcurrentHashMap<>());
+        // 한 사용자가 캐시를 독차지하지 않도록 날짜 수 제한
+        if (days.size() >= maxDaysPerUser && !days.containsKey(date)) {
+            days.clear();
+        }
+        days.put(date, new DayEntry(eTag, List.copyOf(todos)));
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 비움 (커밋 전에 다른 요청이 옛 목록을 다시 넣지 않도록)
+    public void evict(Long userKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userKey);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.invalidate(userKey);
+            }
+        });
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class DayEntry {
+        private final String eTag;
+        private final List<getOneDayTodoListDto> todos;
+    }
+}
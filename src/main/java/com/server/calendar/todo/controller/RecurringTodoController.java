@@ -0,0 +1,48 @@
+package com.server.calendar.todo.controller;
+
+import com.server.calendar.todo.dto.CreateRecurringTodoDto;
+import com.server.calendar.todo.service.RecurringTodoService;
+import com.server.calendar.util.annotation.AuthUser;
+import com.server.calendar.util.jwt.JwtPrincipal;
+import com.server.calendar.util.response.CustomApiResponse;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/todo/recurring")
+@RequiredArgsConstructor
+public class RecurringTodoController {
+
+    private final RecurringTodoService recurringTodoService;
+
+    @PostMapping
+    public ResponseEntity<CustomApiResponse<?>> createRecurringTodo(@RequestBody CreateRecurringTodoDto dto, @AuthUser JwtPrincipal principal) {
+        return recurringTodoService.createRecurringTodo(dto, principal);
+    }
+
+    @GetMapping
+    public ResponseEntity<CustomApiResponse<?>> getRecurringTodos(@AuthUser JwtPrincipal principal) {
+        return recurringTodoService.getRecurringTodos(principal);
+    }
+
+    // 특정 날짜 한 번의 완료 여부만 변경
+    @PutMapping("/{recurringTodoId}/checking/{date}")
+    public ResponseEntity<CustomApiResponse<?>> changeCheckState(@PathVariable Long recurringTodoId, @PathVariable LocalDate date,
+                                                                 @AuthUser JwtPrincipal principal) {
+        return recurringTodoService.changeCheckState(recurringTodoId, date, principal);
+    }
+
+    @DeleteMapping("/{recurringTodoId}")
+    public ResponseEntity<CustomApiResponse<?>> deleteRecurringTodo(@PathVariable Long recurringTodoId, @AuthUser JwtPrincipal principal) {
+        return recurringTodoService.deleteRecurringTodo(recurringTodoId, principal);
+    }
+}
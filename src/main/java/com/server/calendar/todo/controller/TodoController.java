@@ -1,12 +1,21 @@
 package com.server.calendar.todo.controller;
 
+import com.server.calendar.todo.dto.BulkTodoDto;
 import com.server.calendar.todo.dto.ChangeTitleDto;
 import com.server.calendar.todo.dto.CreateTodoDto;
 import com.server.calendar.todo.service.TodoService;
+import com.server.calendar.util.annotation.AuthUser;
+import com.server.calendar.util.annotation.StatementBudget;
+import com.server.calendar.util.jwt.JwtPrincipal;
 import com.server.calendar.util.response.CustomApiResponse;
-import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,8 +23,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/todo")
@@ -24,39 +36,94 @@ public class TodoController {
 
     private final TodoService todoService;
 
+    // 사용자 키, 저장, 날짜 통계, 미완료 수, 월 버전 + id 블록을 새로 받을 때 2
+    @StatementBudget(7)
     @PostMapping
-    public ResponseEntity<CustomApiResponse<?>> createdTodo(@RequestBody CreateTodoDto dto, HttpServletRequest request) {
-        return todoService.createTodo(dto, request);
+    public ResponseEntity<CustomApiResponse<?>> createdTodo(@RequestBody CreateTodoDto dto, @AuthUser JwtPrincipal principal) {
+        return todoService.createTodo(dto, principal);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<CustomApiResponse<?>> createTodos(@RequestBody List<CreateTodoDto> dtos, @AuthUser JwtPrincipal principal) {
+        return todoService.createTodos(dtos, principal);
+    }
+
+    // 사용자 키, 월 버전, 할 일 목록, 반복 할 일 (같은 버전을 캐시에 갖고 있으면 월 버전 1번)
+    @StatementBudget(4)
     @GetMapping("/oneDay/{date}")
-    public ResponseEntity<CustomApiResponse<?>> getOneDayTodoList(@PathVariable LocalDate date, HttpServletRequest request) {
-        return todoService.getOneDayTodoList(date, request);
+    public ResponseEntity<CustomApiResponse<?>> getOneDayTodoList(@PathVariable LocalDate date,
+                                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                  @AuthUser JwtPrincipal principal) {
+        return todoService.getOneDayTodoList(date, ifNoneMatch, principal);
+    }
+
+    // 주간/일정 화면용 기간 조회 (날짜별로 묶어서 한 번에)
+    // 사용자 키, 할 일 목록, 반복 할 일
+    @StatementBudget(3)
+    @GetMapping("/range")
+    public ResponseEntity<CustomApiResponse<?>> getRange(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                         @AuthUser JwtPrincipal principal) {
+        return todoService.getRange(from, to, principal);
+    }
+
+    // 다른 캘린더의 .ics 파일 가져오기 (요청 본문을 그대로 스트림으로 읽음)
+    @PostMapping(value = "/import", consumes = {"text/calendar", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<CustomApiResponse<?>> importIcs(InputStream ics, @AuthUser JwtPrincipal principal) throws IOException {
+        return todoService.importIcs(ics, principal);
+    }
+
+    // 전체 기록 내보내기 (format = ndjson | csv)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format,
+                                                        @AuthUser JwtPrincipal principal) {
+        return todoService.export(format, principal);
     }
 
+    // 사용자 키, 월 버전, 날짜 통계, 반복 할 일
+    // (사용자 키가 캐시에 있고 반복 할 일 규칙을 만든 적이 없으면 2, 버전이 그대로면 1)
+    @StatementBudget(4)
     @GetMapping("oneMonth/{date}")
-    public ResponseEntity<CustomApiResponse<?>> getOneMonth(@PathVariable String date, HttpServletRequest request) {
-        return todoService.getOneMonth(date, request);
+    public ResponseEntity<CustomApiResponse<?>> getOneMonth(@PathVariable String date,
+                                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                            @AuthUser JwtPrincipal principal) {
+        return todoService.getOneMonth(date, ifNoneMatch, principal);
     }
 
+    // 미완료 일반 할 일 전체 + date(클라이언트의 오늘, 없으면 서버 날짜)에 해당하는 미완료 반복 할 일
+    // 사용자 키, 카운터, 반복 할 일 + 카운터가 없을 때 처음 한 번 초기화 2
+    @StatementBudget(5)
     @GetMapping("/notDoneCount")
-    public ResponseEntity<CustomApiResponse<?>> getNotDoneCount(HttpServletRequest request) {
-        return todoService.getNotDoneCount(request);
+    public ResponseEntity<CustomApiResponse<?>> getNotDoneCount(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                                                @AuthUser JwtPrincipal principal) {
+        return todoService.getNotDoneCount(date != null ? date : LocalDate.now(), principal);
     }
 
+    // 사용자 키, 상태 반전, 날짜 통계, 미완료 수, 월 버전
+    // (통계/카운터/버전은 같은 트랜잭션에서 함께 바뀌어야 하고 테이블이 달라 한 문장으로 합치지 않음)
+    @StatementBudget(5)
     @PutMapping("/checking/{todoId}")
-    public ResponseEntity<CustomApiResponse<?>> changeCheckState(@PathVariable Long todoId, HttpServletRequest request) {
-        return todoService.changeCheckState(todoId, request);
+    public ResponseEntity<CustomApiResponse<?>> changeCheckState(@PathVariable Long todoId, @AuthUser JwtPrincipal principal) {
+        return todoService.changeCheckState(todoId, principal);
     }
 
+    // 사용자 키, 제목 수정, 월 버전
+    @StatementBudget(3)
     @PutMapping("/title/{todoId}")
-    public ResponseEntity<CustomApiResponse<?>> changeTitle(@PathVariable Long todoId, @RequestBody ChangeTitleDto dto, HttpServletRequest request) {
-        return todoService.changeTitle(dto, todoId, request);
+    public ResponseEntity<CustomApiResponse<?>> changeTitle(@PathVariable Long todoId, @RequestBody ChangeTitleDto dto, @AuthUser JwtPrincipal principal) {
+        return todoService.changeTitle(dto, todoId, principal);
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<CustomApiResponse<?>> bulkUpdate(@RequestBody BulkTodoDto dto, @AuthUser JwtPrincipal principal) {
+        return todoService.bulkUpdate(dto, principal);
     }
 
+    // 사용자 키, 날짜 통계, 미완료 수, 월 버전, 삭제
+    @StatementBudget(5)
     @DeleteMapping("/{todoId}")
-    public ResponseEntity<CustomApiResponse<?>> deleteTodo(@PathVariable Long todoId, HttpServletRequest request) {
-        return todoService.deleteTodo(todoId, request);
+    public ResponseEntity<CustomApiResponse<?>> deleteTodo(@PathVariable Long todoId, @AuthUser JwtPrincipal principal) {
+        return todoService.deleteTodo(todoId, principal);
     }
 
 }
@@ -0,0 +1,15 @@
+package com.server.calendar.todo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BatchCreateResultDto {
+    // 요청 목록에서의 위치
+    private int index;
+    // 성공하면 생성된 할 일 id
+    private Long todoId;
+    // 실패하면 사유
+    private String error;
+}
@@ -0,0 +1,6 @@
+package com.server.calendar.todo.dto;
+
+// 여러 할 일에 한 번에 적용할 작업
+public enum BulkOperation {
+    DONE, NOT_DONE, TOGGLE, RETITLE, DELETE
+}
@@ -0,0 +1,17 @@
+package com.server.calendar.todo.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BulkTodoDto {
+
+    private List<Long> todoIds;
+
+    private BulkOperation operation;
+
+    // RETITLE 일 때만 사용
+    private String title;
+}
@@ -0,0 +1,15 @@
+package com.server.calendar.todo.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BulkTodoResultDto {
+    private BulkOperation operation;
+    // 실제로 적용된 할 일 id
+    private List<Long> affectedIds;
+    // 없거나 내 할 일이 아닌 id
+    private List<Long> notFoundIds;
+}
@@ -0,0 +1,20 @@
+package com.server.calendar.todo.dto;
+
+import com.server.calendar.doamin.Category;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CreateRecurringTodoDto {
+
+    private String title;
+
+    private Category category;
+
+    // yyyy-MM-dd
+    private String startDate;
+
+    // 예: FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,WE,FR / FREQ=DAILY;COUNT=30 / FREQ=MONTHLY;UNTIL=20251231
+    private String rrule;
+}
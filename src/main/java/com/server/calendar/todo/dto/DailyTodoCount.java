@@ -0,0 +1,10 @@
+package com.server.calendar.todo.dto;
+
+import java.time.LocalDate;
+
+// 날짜별 완료/미완료 개수 projection
+public interface DailyTodoCount {
+    LocalDate getDate();
+    Long getDoneCount();
+    Long getNotDoneCount();
+}
@@ -0,0 +1,15 @@
+package com.server.calendar.todo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ImportResultDto {
+    // 새로 만든 할 일 개수
+    private long imported;
+    // 날짜나 제목이 없어 건너뛴 항목 개수
+    private long skipped;
+    // 같은 날짜에 같은 제목의 할 일이 이미 있어 건너뛴 개수
+    private long duplicates;
+}
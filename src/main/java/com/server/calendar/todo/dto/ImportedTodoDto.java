@@ -0,0 +1,16 @@
+package com.server.calendar.todo.dto;
+
+import com.server.calendar.doamin.Category;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 가져오기 파일에서 읽은 할 일 한 건
+@Getter
+@AllArgsConstructor
+public class ImportedTodoDto {
+    private LocalDate date;
+    private String title;
+    private Category category;
+    private boolean isDone;
+}
@@ -0,0 +1,7 @@
+package com.server.calendar.todo.dto;
+
+// 월 버전 합과 그중 사용자 전체 버전(반복 할 일 규칙 변경) projection
+public interface MonthVersionRow {
+    Long getVersion();
+    Long getRecurringVersion();
+}
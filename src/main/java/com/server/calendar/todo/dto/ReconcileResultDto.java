@@ -0,0 +1,13 @@
+package com.server.calendar.todo.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ReconcileResultDto {
+    // 재계산 전 TodoLists 와 맞지 않던 통계 행 수
+    private long driftCount;
+    // 다시 만들어진 통계 행 수
+    private int rebuiltCount;
+}
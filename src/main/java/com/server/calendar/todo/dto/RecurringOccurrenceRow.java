@@ -0,0 +1,10 @@
+package com.server.calendar.todo.dto;
+
+import com.server.calendar.doamin.RecurringTodo;
+import java.time.LocalDate;
+
+// 반복 할 일 규칙 + 조회 기간 안의 완료 날짜 projection (완료 기록이 없으면 completedDate 는 null)
+public interface RecurringOccurrenceRow {
+    RecurringTodo getRule();
+    LocalDate getCompletedDate();
+}
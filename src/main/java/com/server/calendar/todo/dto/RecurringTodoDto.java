@@ -0,0 +1,16 @@
+package com.server.calendar.todo.dto;
+
+import com.server.calendar.doamin.Category;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RecurringTodoDto {
+    private Long recurringTodoId;
+    private String title;
+    private Category category;
+    private LocalDate startDate;
+    private String rrule;
+}
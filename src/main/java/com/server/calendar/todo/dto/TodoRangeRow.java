@@ -0,0 +1,13 @@
+package com.server.calendar.todo.dto;
+
+import com.server.calendar.doamin.Category;
+import java.time.LocalDate;
+
+// 기간 조회 projection
+public interface TodoRangeRow {
+    LocalDate getDate();
+    Long getId();
+    String getTitle();
+    Category getCategory();
+    Boolean getIsDone();
+}
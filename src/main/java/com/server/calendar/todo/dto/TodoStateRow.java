@@ -0,0 +1,10 @@
+package com.server.calendar.todo.dto;
+
+import java.time.LocalDate;
+
+// 일괄 작업 전 할 일 상태 projection
+public interface TodoStateRow {
+    Long getId();
+    LocalDate getDate();
+    Boolean getIsDone();
+}
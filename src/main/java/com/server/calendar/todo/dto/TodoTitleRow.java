@@ -0,0 +1,9 @@
+package com.server.calendar.todo.dto;
+
+import java.time.LocalDate;
+
+// 가져오기 중복 확인 projection
+public interface TodoTitleRow {
+    LocalDate getDate();
+    String getTitle();
+}
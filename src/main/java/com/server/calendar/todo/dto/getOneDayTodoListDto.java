@@ -1,6 +1,7 @@
 package com.server.calendar.todo.dto;
 
 import com.server.calendar.doamin.Category;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,9 +9,17 @@ import lombok.Setter;
 @Getter
 @Setter
 @Builder
+@AllArgsConstructor
 public class getOneDayTodoListDto {
     private Long todoId;
     private String title;
     private Category category;
     private Boolean isDone;
+    // 반복 할 일에서 펼친 항목이면 규칙 id (todoId 는 null)
+    private Long recurringTodoId;
+
+    // 조회 쿼리의 constructor projection 용
+    public getOneDayTodoListDto(Long todoId, String title, Category category, Boolean isDone) {
+        this(todoId, title, category, isDone, null);
+    }
 }
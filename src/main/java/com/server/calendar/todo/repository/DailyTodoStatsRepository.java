@@ -0,0 +1,133 @@
+package com.server.calendar.todo.repository;
+
+import com.server.calendar.doamin.DailyTodoStats;
+import com.server.calendar.todo.dto.DailyTodoCount;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DailyTodoStatsRepository extends JpaRepository<DailyTodoStats, Long> {
+
+    @Query("select s.date as date, s.doneCount as doneCount, s.notDoneCount as notDoneCount " +
+            "from DailyTodoStats s where s.user.id = :userKey and s.date between :startDate and :endDate")
+    List<DailyTodoCount> findDailyByUserKeyAndDateBetween(@Param("userKey") Long userKey,
+                                                          @Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate);
+
+    // 하루 통계 행이 없으면 만들고, 있으면 증감만 반영
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_todo_stats"))
+    @Modifying
+    @Query(value = "insert into daily_todo_stats (user_id, date, done_count, not_done_count) " +
+            "values (:userKey, :date, :doneDelta, :notDoneDelta) " +
+            "on duplicate key update done_count = done_count + :doneDelta, not_done_count = not_done_count + :notDoneDelta",
+            nativeQuery = true)
+    int applyDelta(@Param("userKey") Long userKey, @Param("date") LocalDate date,
+                   @Param("doneDelta") long doneDelta, @Param("notDoneDelta") long notDoneDelta);
+
+    // 상태가 바뀐 뒤에 호출: 바뀐 할 일의 날짜/상태를 서브쿼리로 읽어 반영
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_todo_stats"))
+    @Modifying
+    @Query(value = "update daily_todo_stats set " +
+            "done_count = done_count + (select case when t.is_done then 1 else -1 end from todo_lists t where t.id = :todoId), " +
+            "not_done_count = not_done_count + (select case when t.is_done then -1 else 1 end from todo_lists t where t.id = :todoId) " +
+            "where user_id = :userKey and date = (select t.date from todo_lists t where t.id = :todoId and t.user_id = :userKey)",
+            nativeQuery = true)
+    int applyToggle(@Param("userKey") Long userKey, @Param("todoId") Long todoId);
+
+    // 삭제하기 전에 호출
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_todo_stats"))
+    @Modifying
+    @Query(value = "update daily_todo_stats set " +
+            "done_count = done_count - (select case when t.is_done then 1 else 0 end from todo_lists t where t.id = :todoId), " +
+            "not_done_count = not_done_count - (select case when t.is_done then 0 else 1 end from todo_lists t where t.id = :todoId) " +
+            "where user_id = :userKey and date = (select t.date from todo_lists t where t.id = :todoId and t.user_id = :userKey)",
+            nativeQuery = true)
+    int applyDelete(@Param("userKey") Long userKey, @Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("delete from DailyTodoStats s where s.user.id = :userKey")
+    int deleteByUserKey(@Param("userKey") Long userKey);
+
+    // ---- 재계산 (한 사용자) ----
+
+    @Query(value = "select " +
+            "(select count(*) from (" +
+            "  select t.user_id, t.date, " +
+            "    sum(case when t.is_done then 1 else 0 end) as done_count, " +
+            "    sum(case when t.is_done then 0 else 1 end) as not_done_count " +
+            "  from todo_lists t where t.user_id = :userKey and t.date between :startDate and :endDate " +
+            "  group by t.user_id, t.date) a " +
+            " left join daily_todo_stats s on s.user_id = a.user_id and s.date = a.date " +
+            " where s.id is null or s.done_count <> a.done_count or s.not_done_count <> a.not_done_count) + " +
+            "(select count(*) from daily_todo_stats s " +
+            " where s.user_id = :userKey and s.date between :startDate and :endDate " +
+            " and (s.done_count <> 0 or s.not_done_count <> 0) " +
+            " and not exists (select 1 from todo_lists t where t.user_id = s.user_id and t.date = s.date))",
+            nativeQuery = true)
+    long countDriftByUserKey(@Param("userKey") Long userKey,
+                             @Param("startDate") LocalDate startDate,
+                             @Param("endDate") LocalDate endDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_todo_stats"))
+    @Modifying
+    @Query(value = "delete from daily_todo_stats where user_id = :userKey and date between :startDate and :endDate",
+            nativeQuery = true)
+    int deleteByUserKeyAndDateBetween(@Param("userKey") Long userKey,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_todo_stats"))
+    @Modifying
+    @Query(value = "insert into daily_todo_stats (user_id, date, done_count, not_done_count) " +
+            "select t.user_id, t.date, " +
+            "  sum(case when t.is_done then 1 else 0 end), " +
+            "  sum(case when t.is_done then 0 else 1 end) " +
+            "from todo_lists t where t.user_id = :userKey and t.date between :startDate and :endDate " +
+            "group by t.user_id, t.date",
+            nativeQuery = true)
+    int rebuildByUserKey(@Param("userKey") Long userKey,
+                         @Param("startDate") LocalDate startDate,
+                         @Param("endDate") LocalDate endDate);
+
+    // ---- 재계산 (기간 전체 사용자) ----
+
+    @Query(value = "select " +
+            "(select count(*) from (" +
+            "  select t.user_id, t.date, " +
+            "    sum(case when t.is_done then 1 else 0 end) as done_count, " +
+            "    sum(case when t.is_done then 0 else 1 end) as not_done_count " +
+            "  from todo_lists t where t.date between :startDate and :endDate " +
+            "  group by t.user_id, t.date) a " +
+            " left join daily_todo_stats s on s.user_id = a.user_id and s.date = a.date " +
+            " where s.id is null or s.done_count <> a.done_count or s.not_done_count <> a.not_done_count) + " +
+            "(select count(*) from daily_todo_stats s " +
+            " where s.date between :startDate and :endDate " +
+            " and (s.done_count <> 0 or s.not_done_count <> 0) " +
+            " and not exists (select 1 from todo_lists t where t.user_id = s.user_id and t.date = s.date))",
+            nativeQuery = true)
+    long countDrift(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_todo_stats"))
+    @Modifying
+    @Query(value = "delete from daily_todo_stats where date between :startDate and :endDate", nativeQuery = true)
+    int deleteByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_todo_stats"))
+    @Modifying
+    @Query(value = "insert into daily_todo_stats (user_id, date, done_count, not_done_count) " +
+            "select t.user_id, t.date, " +
+            "  sum(case when t.is_done then 1 else 0 end), " +
+            "  sum(case when t.is_done then 0 else 1 end) " +
+            "from todo_lists t where t.date between :startDate and :endDate " +
+            "group by t.user_id, t.date",
+            nativeQuery = true)
+    int rebuild(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,34 @@
+package com.server.calendar.todo.repository;
+
+import com.server.calendar.doamin.RecurringTodoCompletion;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RecurringTodoCompletionRepository extends JpaRepository<RecurringTodoCompletion, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "recurring_todo_completions"))
+    @Modifying
+    @Query(value = "insert ignore into recurring_todo_completions (recurring_todo_id, user_id, date) values (:recurringTodoId, :userKey, :date)",
+            nativeQuery = true)
+    int markDone(@Param("recurringTodoId") Long recurringTodoId, @Param("userKey") Long userKey, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("delete from RecurringTodoCompletion c where c.recurringTodoId = :recurringTodoId and c.userKey = :userKey and c.date = :date")
+    int markNotDone(@Param("recurringTodoId") Long recurringTodoId, @Param("userKey") Long userKey, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("delete from RecurringTodoCompletion c where c.recurringTodoId = :recurringTodoId and c.userKey = :userKey")
+    int deleteByRecurringTodoId(@Param("recurringTodoId") Long recurringTodoId, @Param("userKey") Long userKey);
+
+    @Modifying
+    @Query("delete from RecurringTodoCompletion c where c.userKey = :userKey")
+    int deleteByUserKey(@Param("userKey") Long userKey);
+}
@@ -0,0 +1,39 @@
+package com.server.calendar.todo.repository;
+
+import com.server.calendar.doamin.RecurringTodo;
+import com.server.calendar.todo.dto.RecurringOccurrenceRow;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RecurringTodoRepository extends JpaRepository<RecurringTodo, Long> {
+
+    // 조회 기간과 겹치는 규칙과 그 기간의 완료 날짜를 한 번에 (규칙은 완료 기록 수만큼 반복됨)
+    @Query("select r as rule, c.date as completedDate from RecurringTodo r " +
+            "left join RecurringTodoCompletion c on c.recurringTodoId = r.id and c.date between :startDate and :endDate " +
+            "where r.user.id = :userKey and r.startDate <= :endDate " +
+            "and (r.untilDate is null or r.untilDate >= :startDate) order by r.id")
+    List<RecurringOccurrenceRow> findActiveWithCompletions(@Param("userKey") Long userKey,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
+
+    @Query("select r from RecurringTodo r where r.user.id = :userKey order by r.id")
+    List<RecurringTodo> findAllByUserKey(@Param("userKey") Long userKey);
+
+    @Query("select r from RecurringTodo r where r.id = :id and r.user.id = :userKey")
+    Optional<RecurringTodo> findByIdAndUserKey(@Param("id") Long id, @Param("userKey") Long userKey);
+
+    @Modifying
+    @Query("delete from RecurringTodo r where r.id = :id and r.user.id = :userKey")
+    int deleteByIdAndUserKey(@Param("id") Long id, @Param("userKey") Long userKey);
+
+    @Modifying
+    @Query("delete from RecurringTodo r where r.user.id = :userKey")
+    int deleteByUserKey(@Param("userKey") Long userKey);
+}
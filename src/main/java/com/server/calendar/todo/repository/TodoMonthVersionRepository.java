@@ -0,0 +1,43 @@
+package com.server.calendar.todo.repository;
+
+import com.server.calendar.doamin.TodoMonthVersion;
+import com.server.calendar.todo.dto.MonthVersionRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TodoMonthVersionRepository extends JpaRepository<TodoMonthVersion, TodoMonthVersion.Key> {
+
+    // 해당 월 버전 + 사용자 전체 버전(month_key 0, 반복 할 일 규칙 변경) - 둘 다 증가만 하므로 합도 바뀔 때마다 커짐
+    // 사용자 전체 버전이 0 이면 반복 할 일 규칙을 만든 적이 없음
+    @Query("select coalesce(sum(v.version), 0) as version, " +
+            "coalesce(sum(case when v.monthKey = 0 then v.version else 0 end), 0) as recurringVersion " +
+            "from TodoMonthVersion v where v.userKey = :userKey and v.monthKey in (0, :monthKey)")
+    MonthVersionRow findVersion(@Param("userKey") Long userKey, @Param("monthKey") int monthKey);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "todo_month_versions"))
+    @Modifying
+    @Query(value = "insert into todo_month_versions (user_id, month_key, version) values (:userKey, :monthKey, 1) " +
+            "on duplicate key update version = version + 1",
+            nativeQuery = true)
+    int bump(@Param("userKey") Long userKey, @Param("monthKey") int monthKey);
+
+    // 할 일 id 로 해당 월을 찾아 증가 (내 할 일이 아니면 아무 행도 바뀌지 않음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "todo_month_versions"))
+    @Modifying
+    @Query(value = "insert into todo_month_versions (user_id, month_key, version) " +
+            "select t.user_id, year(t.date) * 100 + month(t.date), 1 from todo_lists t where t.id = :todoId and t.user_id = :userKey " +
+            "on duplicate key update version = version + 1",
+            nativeQuery = true)
+    int bumpByTodo(@Param("userKey") Long userKey, @Param("todoId") Long todoId);
+
+    @Modifying
+    @Query("delete from TodoMonthVersion v where v.userKey = :userKey")
+    int deleteByUserKey(@Param("userKey") Long userKey);
+}
@@ -1,18 +1,101 @@
 package com.server.calendar.todo.repository;
 
 import com.server.calendar.doamin.TodoList;
-import com.server.calendar.doamin.User;
+import com.server.calendar.todo.dto.TodoRangeRow;
+import com.server.calendar.todo.dto.TodoStateRow;
+import com.server.calendar.todo.dto.TodoTitleRow;
+import com.server.calendar.todo.dto.getOneDayTodoListDto;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TodoRepository extends JpaRepository<TodoList, Long> {
-    List<TodoList> findByUserAndDate(User user, LocalDate date);
-    Optional<TodoList> findTodoListById(Long id);
-    List<TodoList> findByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate);
-    Long countTodoListsByUserAndIsDone(User user, Boolean isDone);
-    void deleteByUser(User user);
+    // 하루 목록은 필요한 컬럼만 DTO 로 바로 읽음 (엔티티/USERS 조인 없음)
+    @Query("select new com.server.calendar.todo.dto.getOneDayTodoListDto(t.id, t.title, t.category, t.isDone) " +
+            "from TodoList t where t.user.id = :userKey and t.date = :date order by t.id")
+    List<getOneDayTodoListDto> findDayViewByUserKeyAndDate(@Param("userKey") Long userKey, @Param("date") LocalDate date);
+
+    // 기간 조회 - (user_id, date) 인덱스 순서 그대로 (user_id, date, id) 정렬
+    @Query("select t.date as date, t.id as id, t.title as title, t.category as category, t.isDone as isDone " +
+            "from TodoList t where t.user.id = :userKey and t.date between :startDate and :endDate " +
+            "order by t.date, t.id")
+    List<TodoRangeRow> findRangeViewByUserKeyAndDateBetween(@Param("userKey") Long userKey,
+                                                            @Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate);
+
+    // 탈퇴 처리: id 순서로 다음 묶음의 id 를 읽고, 그 id 범위만 한 문장으로 삭제
+    @Query("select t.id from TodoList t where t.user.id = :userKey and t.id > :afterId order by t.id")
+    List<Long> findIdsByUserKeyAfter(@Param("userKey") Long userKey, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TodoList t where t.user.id = :userKey and t.id between :fromId and :toId")
+    int deleteByUserKeyAndIdBetween(@Param("userKey") Long userKey, @Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("delete from TodoList t where t.user.id = :userKey")
+    int deleteAllByUserKey(@Param("userKey") Long userKey);
+
+    // 소유자 조건을 포함한 단일 문장 변경 (영향받은 행이 0이면 없는 할 일)
+    @Modifying
+    @Query("update TodoList t set t.isDone = case when t.isDone = true then false else true end " +
+            "where t.id = :todoId and t.user.id = :userKey")
+    int toggleDone(@Param("todoId") Long todoId, @Param("userKey") Long userKey);
+
+    @Modifying
+    @Query("update TodoList t set t.title = :title where t.id = :todoId and t.user.id = :userKey")
+    int updateTitle(@Param("todoId") Long todoId, @Param("userKey") Long userKey, @Param("title") String title);
+
+    @Modifying
+    @Query("delete from TodoList t where t.id = :todoId and t.user.id = :userKey")
+    int deleteByIdAndUserKey(@Param("todoId") Long todoId, @Param("userKey") Long userKey);
+
+    // 내보내기 - 전방향 커서로 fetch size 만큼씩 읽음 (MySQL 은 useCursorFetch=true 필요)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t.date as date, t.id as id, t.title as title, t.category as category, t.isDone as isDone " +
+            "from TodoList t where t.user.id = :userKey order by t.date, t.id")
+    Stream<TodoRangeRow> streamExportByUserKey(@Param("userKey") Long userKey);
+
+    // 가져오기 중복 확인 - 이번 묶음의 날짜에 이미 있는 제목
+    @Query("select t.date as date, t.title as title from TodoList t where t.user.id = :userKey and t.date in :dates")
+    List<TodoTitleRow> findTitlesByUserKeyAndDateIn(@Param("userKey") Long userKey, @Param("dates") Collection<LocalDate> dates);
+
+    // 일괄 작업 대상 중 내 할 일의 현재 상태 (통계 계산이 끝날 때까지 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id as id, t.date as date, t.isDone as isDone from TodoList t " +
+            "where t.id in :todoIds and t.user.id = :userKey")
+    List<TodoStateRow> findStatesForUpdate(@Param("todoIds") Collection<Long> todoIds, @Param("userKey") Long userKey);
+
+    // 일괄 작업은 모두 소유자 조건을 포함한 단일 문장
+    @Modifying
+    @Query("update TodoList t set t.isDone = :isDone where t.id in :todoIds and t.user.id = :userKey")
+    int updateDoneAll(@Param("todoIds") Collection<Long> todoIds, @Param("userKey") Long userKey, @Param("isDone") boolean isDone);
+
+    @Modifying
+    @Query("update TodoList t set t.isDone = case when t.isDone = true then false else true end " +
+            "where t.id in :todoIds and t.user.id = :userKey")
+    int toggleDoneAll(@Param("todoIds") Collection<Long> todoIds, @Param("userKey") Long userKey);
+
+    @Modifying
+    @Query("update TodoList t set t.title = :title where t.id in :todoIds and t.user.id = :userKey")
+    int updateTitleAll(@Param("todoIds") Collection<Long> todoIds, @Param("userKey") Long userKey, @Param("title") String title);
+
+    @Modifying
+    @Query("delete from TodoList t where t.id in :todoIds and t.user.id = :userKey")
+    int deleteAllByIdsAndUserKey(@Param("todoIds") Collection<Long> todoIds, @Param("userKey") Long userKey);
 }
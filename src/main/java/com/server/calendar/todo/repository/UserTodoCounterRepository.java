@@ -0,0 +1,68 @@
+package com.server.calendar.todo.repository;
+
+import com.server.calendar.doamin.UserTodoCounter;
+import jakarta.persistence.QueryHint;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserTodoCounterRepository extends JpaRepository<UserTodoCounter, Long> {
+
+    @Query("select c.notDoneCount from UserTodoCounter c where c.userKey = :userKey")
+    Optional<Long> findNotDoneCountByUserKey(@Param("userKey") Long userKey);
+
+    // 카운터 행이 아직 없으면 아무것도 하지 않음 (처음 조회할 때 TodoLists 로부터 초기화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_todo_counters"))
+    @Modifying
+    @Query(value = "update user_todo_counters set not_done_count = not_done_count + :delta where user_id = :userKey",
+            nativeQuery = true)
+    int applyDelta(@Param("userKey") Long userKey, @Param("delta") long delta);
+
+    // 상태가 바뀐 뒤에 호출
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_todo_counters"))
+    @Modifying
+    @Query(value = "update user_todo_counters set not_done_count = not_done_count + coalesce(" +
+            "(select case when t.is_done then -1 else 1 end from todo_lists t where t.id = :todoId and t.user_id = :userKey), 0) " +
+            "where user_id = :userKey",
+            nativeQuery = true)
+    int applyToggle(@Param("userKey") Long userKey, @Param("todoId") Long todoId);
+
+    // 삭제하기 전에 호출
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_todo_counters"))
+    @Modifying
+    @Query(value = "update user_todo_counters set not_done_count = not_done_count - coalesce(" +
+            "(select case when t.is_done then 0 else 1 end from todo_lists t where t.id = :todoId and t.user_id = :userKey), 0) " +
+            "where user_id = :userKey",
+            nativeQuery = true)
+    int applyDelete(@Param("userKey") Long userKey, @Param("todoId") Long todoId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_todo_counters"))
+    @Modifying
+    @Query(value = "insert ignore into user_todo_counters (user_id, not_done_count) " +
+            "select :userKey, count(*) from todo_lists t where t.user_id = :userKey and t.is_done = false",
+            nativeQuery = true)
+    int initializeByUserKey(@Param("userKey") Long userKey);
+
+    // 사용자가 없는 할 일(user_id 가 null)은 건너뜀 (V2 백필과 같은 조건)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_todo_counters"))
+    @Modifying
+    @Query(value = "insert into user_todo_counters (user_id, not_done_count) " +
+            "select t.user_id, sum(case when t.is_done then 0 else 1 end) from todo_lists t " +
+            "where t.user_id is not null group by t.user_id",
+            nativeQuery = true)
+    int initializeAll();
+
+    @Modifying
+    @Query("delete from UserTodoCounter c where c.userKey = :userKey")
+    int deleteByUserKey(@Param("userKey") Long userKey);
+
+    @Modifying
+    @Query("delete from UserTodoCounter c")
+    int deleteAllCounters();
+}
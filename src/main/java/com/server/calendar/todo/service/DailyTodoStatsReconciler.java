@@ -0,0 +1,73 @@
+package com.server.calendar.todo.service;
+
+import com.server.calendar.todo.dto.ReconcileResultDto;
+import com.server.calendar.todo.repository.DailyTodoStatsRepository;
+import com.server.calendar.util.datasource.ShardContext;
+import com.server.calendar.util.datasource.ShardDirectory;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// TodoLists 원본으로 daily_todo_stats 를 다시 계산 (기존 데이터 백필 및 불일치 감지)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyTodoStatsReconciler {
+
+    // MySQL DATE 타입이 표현할 수 있는 전체 범위
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final DailyTodoStatsRepository dailyTodoStatsRepository;
+    private final ShardDirectory shardDirectory;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${todo.stats.reconcile-days:7}")
+    private int reconcileDays;
+
+    // 한 사용자의 전체 기간
+    @Transactional
+    public ReconcileResultDto reconcileUser(Long userKey) {
+        long drift = dailyTodoStatsRepository.countDriftByUserKey(userKey, MIN_DATE, MAX_DATE);
+        dailyTodoStatsRepository.deleteByUserKeyAndDateBetween(userKey, MIN_DATE, MAX_DATE);
+        int rebuilt = dailyTodoStatsRepository.rebuildByUserKey(userKey, MIN_DATE, MAX_DATE);
+
+        if (drift > 0) {
+            log.warn("daily_todo_stats drift detected: userKey={}, rows={}", userKey, drift);
+        }
+        return ReconcileResultDto.builder().driftCount(drift).rebuiltCount(rebuilt).build();
+    }
+
+    // 기간 안의 모든 사용자 (샤드마다 트랜잭션 하나)
+    public ReconcileResultDto reconcileRange(LocalDate startDate, LocalDate endDate) {
+        long drift = 0;
+        int rebuilt = 0;
+        for (int shard = 0; shard < shardDirectory.shardCount(); shard++) {
+            ReconcileResultDto result = ShardContext.call(shard, () -> transactionTemplate.execute(status -> {
+                long found = dailyTodoStatsRepository.countDrift(startDate, endDate);
+                dailyTodoStatsRepository.deleteByDateBetween(startDate, endDate);
+                int inserted = dailyTodoStatsRepository.rebuild(startDate, endDate);
+                return ReconcileResultDto.builder().driftCount(found).rebuiltCount(inserted).build();
+            }));
+            drift += result.getDriftCount();
+            rebuilt += result.getRebuiltCount();
+        }
+
+        if (drift > 0) {
+            log.warn("daily_todo_stats drift detected: {} ~ {}, rows={}", startDate, endDate, drift);
+        }
+        return ReconcileResultDto.builder().driftCount(drift).rebuiltCount(rebuilt).build();
+    }
+
+    // 최근 며칠을 주기적으로 점검 (cron 이 "-" 이면 비활성)
+    @Scheduled(cron = "${todo.stats.reconcile-cron:-}")
+    public void reconcileRecentDays() {
+        LocalDate today = LocalDate.now();
+        reconcileRange(today.minusDays(reconcileDays), today);
+    }
+}
@@ -0,0 +1,225 @@
+package com.server.calendar.todo.service;
+
+import com.server.calendar.doamin.Category;
+import com.server.calendar.todo.dto.ImportedTodoDto;
+import com.server.calendar.util.exception.CustomValidationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+// iCalendar(.ics) 를 한 줄씩 읽어 VTODO/VEVENT 를 할 일로 변환 (파일 전체를 메모리에 올리지 않음)
+public class IcsTodoParser {
+
+    private static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    // todo_lists.title 컬럼 길이
+    private static final int MAX_TITLE_LENGTH = 255;
+    // 줄 하나 / 접힌 줄을 이어 붙인 한 줄의 최대 길이 (끝없이 긴 줄로 메모리를 채우지 못하도록)
+    static final int MAX_LINE_LENGTH = 8 * 1024;
+    static final int MAX_LOGICAL_LINE_LENGTH = 64 * 1024;
+
+    private final BufferedReader reader;
+    private long skipped;
+
+    // 현재 읽고 있는 VTODO/VEVENT (없으면 null)
+    private String component;
+    // 그 안에 중첩된 구성요소(VALARM 등) 깊이 - 0 보다 크면 속성을 무시
+    private int nestedDepth;
+    private String summary;
+    private LocalDate start;
+    private LocalDate due;
+    private String categories;
+    private String status;
+    private int priority;
+
+    public IcsTodoParser(Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    // 항목 하나를 다 읽을 때마다 handler 호출
+    public void parse(Consumer<ImportedTodoDto> handler) throws IOException {
+        // 접힌 줄(공백/탭으로 시작)은 앞 줄에 이어 붙임 (RFC 5545 3.1)
+        StringBuilder logical = null;
+        String line;
+        while ((line = readLine()) != null) {
+            if (!line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t')) {
+                if (logical != null) {
+                    if (logical.length() + line.length() - 1 > MAX_LOGICAL_LINE_LENGTH) {
+                        throw new CustomValidationException("ics 파일의 한 줄이 너무 깁니다.");
+                    }
+                    logical.append(line, 1, line.length());
+                }
+                continue;
+            }
+            if (logical != null) {
+                handleLine(logical.toString(), handler);
+            }
+            logical = new StringBuilder(line);
+        }
+        if (logical != null) {
+            handleLine(logical.toString(), handler);
+        }
+    }
+
+    // BufferedReader.readLine 과 같지만 MAX_LINE_LENGTH 를 넘으면 읽기를 멈춤 (\n, \r\n, \r 모두 줄 끝)
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                return line.toString();
+            }
+            if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                return line.toString();
+            }
+            if (line.length() == MAX_LINE_LENGTH) {
+                throw new CustomValidationException("ics 파일의 한 줄이 너무 깁니다.");
+            }
+            line.append((char) c);
+        }
+        return line.isEmpty() ? null : line.toString();
+    }
+
+    private void handleLine(String line, Consumer<ImportedTodoDto> handler) {
+        int colon = line.indexOf(':');
+        if (colon < 0) {
+            return;
+        }
+        String nameAndParams = line.substring(0, colon);
+        String value = line.substring(colon + 1);
+        int semicolon = nameAndParams.indexOf(';');
+        String name = (semicolon < 0 ? nameAndParams : nameAndParams.substring(0, semicolon)).toUpperCase(Locale.ROOT);
+
+        if (name.equals("BEGIN")) {
+            String begun = value.trim().toUpperCase(Locale.ROOT);
+            if (component != null) {
+                nestedDepth++;
+            } else if (begun.equals("VTODO") || begun.equals("VEVENT")) {
+                startComponent(begun);
+            }
+            return;
+        }
+        if (component == null) {
+            return;
+        }
+        // VALARM 의 SUMMARY 등 중첩된 구성요소의 속성은 할 일에 반영하지 않음
+        if (nestedDepth > 0) {
+            if (name.equals("END")) {
+                nestedDepth--;
+            }
+            return;
+        }
+        switch (name) {
+            case "END" -> {
+                if (value.trim().equalsIgnoreCase(component)) {
+                    finishComponent(handler);
+                }
+            }
+            case "SUMMARY" -> summary = unescape(value).trim();
+            case "DTSTART" -> start = parseDate(value);
+            case "DUE" -> due = parseDate(value);
+            case "CATEGORIES" -> categories = categories == null ? value : categories + "," + value;
+            case "STATUS" -> status = value.trim().toUpperCase(Locale.ROOT);
+            case "PRIORITY" -> priority = parsePriority(value);
+            default -> { }
+        }
+    }
+
+    private void startComponent(String name) {
+        component = name;
+        nestedDepth = 0;
+        summary = null;
+        start = null;
+        due = null;
+        categories = null;
+        status = null;
+        priority = 0;
+    }
+
+    private void finishComponent(Consumer<ImportedTodoDto> handler) {
+        // VTODO 는 마감일, VEVENT 는 시작일 기준
+        LocalDate date = component.equals("VTODO") && due != null ? due : start;
+        if (date == null) {
+            date = due;
+        }
+        if (date == null || summary == null || summary.isEmpty()) {
+            skipped++;
+        } else {
+            boolean done = "COMPLETED".equals(status);
+            String title = summary.length() > MAX_TITLE_LENGTH ? summary.substring(0, MAX_TITLE_LENGTH) : summary;
+            handler.accept(new ImportedTodoDto(date, title, mapCategory(categories, priority), done));
+        }
+        component = null;
+    }
+
+    // 20240510, 20240510T090000, 20240510T090000Z 모두 날짜 부분만 사용
+    private static LocalDate parseDate(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() < 8) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(trimmed.substring(0, 8), BASIC_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static int parsePriority(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    // CATEGORIES 의 단어와 PRIORITY(1~4 = 높음)로 카테고리 결정
+    static Category mapCategory(String categories, int priority) {
+        if (categories != null) {
+            String lower = categories.toLowerCase(Locale.ROOT);
+            if (lower.contains("important") || lower.contains("urgent") || lower.contains("중요")) {
+                return Category.IMPORTANT;
+            }
+            if (lower.contains("study") || lower.contains("school") || lower.contains("class") || lower.contains("공부")) {
+                return Category.STUDY;
+            }
+            if (lower.contains("exercise") || lower.contains("workout") || lower.contains("fitness") || lower.contains("운동")) {
+                return Category.EXERCISE;
+            }
+        }
+        if (priority >= 1 && priority <= 4) {
+            return Category.IMPORTANT;
+        }
+        return Category.DAILY;
+    }
+
+    // TEXT 값의 이스케이프 해제 (\\ \; \, \n)
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                result.append(next == 'n' || next == 'N' ? ' ' : next);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.server.calendar.todo.service;
+
+import com.server.calendar.todo.repository.UserTodoCounterRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 미완료 개수를 TodoLists 를 훑지 않고 카운터 한 행으로 제공
+@Component
+public class NotDoneCounter {
+
+    private final UserTodoCounterRepository userTodoCounterRepository;
+    // 읽기 전용(복제본) 트랜잭션 안에서 불려도 초기화는 별도 쓰기 트랜잭션(주 DB)에서
+    private final TransactionTemplate initializeTransaction;
+
+    public NotDoneCounter(UserTodoCounterRepository userTodoCounterRepository,
+                          PlatformTransactionManager transactionManager) {
+        this.userTodoCounterRepository = userTodoCounterRepository;
+        this.initializeTransaction = new TransactionTemplate(transactionManager);
+        this.initializeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional(readOnly = true)
+    public long get(Long userKey) {
+        return userTodoCounterRepository.findNotDoneCountByUserKey(userKey)
+                .orElseGet(() -> {
+                    // 카운터가 없는 사용자는 한 번만 TodoLists 에서 계산
+                    Long initialized = initializeTransaction.execute(status -> {
+                        userTodoCounterRepository.initializeByUserKey(userKey);
+                        return userTodoCounterRepository.findNotDoneCountByUserKey(userKey).orElse(0L);
+                    });
+                    return initialized != null ? initialized : 0L;
+                });
+    }
+
+    @Transactional
+    public long recompute(Long userKey) {
+        userTodoCounterRepository.deleteByUserKey(userKey);
+        userTodoCounterRepository.initializeByUserKey(userKey);
+        return userTodoCounterRepository.findNotDoneCountByUserKey(userKey).orElse(0L);
+    }
+
+    // 할 일이 없는 사용자는 행이 만들어지지 않고, 처음 조회할 때 0으로 초기화됨
+    @Transactional
+    public int recomputeAll() {
+        userTodoCounterRepository.deleteAllCounters();
+        return userTodoCounterRepository.initializeAll();
+    }
+}
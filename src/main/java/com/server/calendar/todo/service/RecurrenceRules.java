@@ -0,0 +1,186 @@
+package com.server.calendar.todo.service;
+
+import com.server.calendar.doamin.RecurrenceFrequency;
+import com.server.calendar.doamin.RecurringTodo;
+import com.server.calendar.util.exception.CustomValidationException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// RRULE 일부(FREQ=DAILY/WEEKLY/MONTHLY, INTERVAL, BYDAY, UNTIL, COUNT) 해석과 기간 내 날짜 계산
+public final class RecurrenceRules {
+
+    private static final int MAX_INTERVAL = 366;
+    private static final int MAX_COUNT = 1000;
+    private static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private RecurrenceRules() {
+    }
+
+    // rrule 을 해석해서 규칙 필드를 채움 (COUNT 는 마지막 날짜로 바꿔서 untilDate 에 저장)
+    public static RecurringTodo.RecurringTodoBuilder parse(String rrule, LocalDate startDate, RecurringTodo.RecurringTodoBuilder builder) {
+        if (rrule == null || rrule.isBlank()) {
+            throw new CustomValidationException("반복 규칙은 비워둘 수 없습니다.");
+        }
+        RecurrenceFrequency frequency = null;
+        int interval = 1;
+        String byDay = null;
+        LocalDate until = null;
+        Integer count = null;
+
+        String value = rrule.trim();
+        if (value.toUpperCase(Locale.ROOT).startsWith("RRULE:")) {
+            value = value.substring("RRULE:".length());
+        }
+        try {
+            for (String part : value.split(";")) {
+                int eq = part.indexOf('=');
+                if (eq < 0) {
+                    throw new CustomValidationException("반복 규칙 형식이 올바르지 않습니다.");
+                }
+                String name = part.substring(0, eq).trim().toUpperCase(Locale.ROOT);
+                String partValue = part.substring(eq + 1).trim().toUpperCase(Locale.ROOT);
+                switch (name) {
+                    case "FREQ" -> frequency = RecurrenceFrequency.valueOf(partValue);
+                    case "INTERVAL" -> interval = Integer.parseInt(partValue);
+                    case "BYDAY" -> byDay = formatDays(parseDays(partValue));
+                    case "UNTIL" -> until = LocalDate.parse(partValue.substring(0, Math.min(8, partValue.length())), BASIC_DATE);
+                    case "COUNT" -> count = Integer.parseInt(partValue);
+                    default -> throw new CustomValidationException("지원하지 않는 반복 규칙입니다: " + name);
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomValidationException("반복 규칙 형식이 올바르지 않습니다.");
+        }
+
+        if (frequency == null) {
+            throw new CustomValidationException("FREQ 는 DAILY, WEEKLY, MONTHLY 중 하나여야 합니다.");
+        }
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new CustomValidationException("INTERVAL 은 1 이상 " + MAX_INTERVAL + " 이하여야 합니다.");
+        }
+        if (byDay != null && frequency != RecurrenceFrequency.WEEKLY) {
+            throw new CustomValidationException("BYDAY 는 WEEKLY 에서만 사용할 수 있습니다.");
+        }
+        if (until != null && count != null) {
+            throw new CustomValidationException("UNTIL 과 COUNT 는 함께 사용할 수 없습니다.");
+        }
+        if (until != null && until.isBefore(startDate)) {
+            throw new CustomValidationException("UNTIL 은 시작 날짜보다 빠를 수 없습니다.");
+        }
+
+        builder.frequency(frequency).intervalCount(interval).byDay(byDay).startDate(startDate).untilDate(until);
+        if (count != null) {
+            if (count < 1 || count > MAX_COUNT) {
+                throw new CustomValidationException("COUNT 는 1 이상 " + MAX_COUNT + " 이하여야 합니다.");
+            }
+            List<LocalDate> dates = occurrences(builder.build(), startDate, LocalDate.MAX, count);
+            builder.untilDate(dates.get(dates.size() - 1));
+        }
+        return builder;
+    }
+
+    public static String format(RecurringTodo rule) {
+        StringBuilder rrule = new StringBuilder("FREQ=").append(rule.getFrequency().name())
+                .append(";INTERVAL=").append(rule.getIntervalCount());
+        if (rule.getByDay() != null) {
+            rrule.append(";BYDAY=").append(rule.getByDay());
+        }
+        if (rule.getUntilDate() != null) {
+            rrule.append(";UNTIL=").append(rule.getUntilDate().format(BASIC_DATE));
+        }
+        return rrule.toString();
+    }
+
+    public static boolean isOccurrence(RecurringTodo rule, LocalDate date) {
+        return !occurrences(rule, date, date, 1).isEmpty();
+    }
+
+    // [from, to] 안의 날짜만 계산 (시작일부터 전부 펼치지 않음), 최대 limit 개
+    public static List<LocalDate> occurrences(RecurringTodo rule, LocalDate from, LocalDate to, int limit) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate start = rule.getStartDate();
+        LocalDate lo = from.isAfter(start) ? from : start;
+        LocalDate hi = rule.getUntilDate() != null && rule.getUntilDate().isBefore(to) ? rule.getUntilDate() : to;
+        if (lo.isAfter(hi)) {
+            return dates;
+        }
+        int interval = rule.getIntervalCount();
+
+        switch (rule.getFrequency()) {
+            case DAILY -> {
+                long days = ChronoUnit.DAYS.between(start, lo);
+                long steps = (days + interval - 1) / interval;
+                for (LocalDate date = start.plusDays(steps * interval); !date.isAfter(hi) && dates.size() < limit;
+                     date = date.plusDays(interval)) {
+                    dates.add(date);
+                }
+            }
+            case WEEKLY -> {
+                Set<DayOfWeek> days = rule.getByDay() == null ? EnumSet.of(start.getDayOfWeek()) : parseDays(rule.getByDay());
+                LocalDate startMonday = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                long weeks = ChronoUnit.WEEKS.between(startMonday, lo.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+                // RFC 5545: 시작일(DTSTART)은 BYDAY 에 없는 요일이어도 첫 번째 반복으로 셈 (COUNT 에도 포함)
+                if (!days.contains(start.getDayOfWeek()) && !start.isBefore(lo) && limit > 0) {
+                    dates.add(start);
+                }
+                for (LocalDate monday = startMonday.plusWeeks(weeks / interval * interval); !monday.isAfter(hi) && dates.size() < limit;
+                     monday = monday.plusWeeks(interval)) {
+                    for (DayOfWeek day : days) {
+                        LocalDate date = monday.plusDays(day.getValue() - 1);
+                        if (!date.isBefore(lo) && !date.isAfter(hi) && dates.size() < limit) {
+                            dates.add(date);
+                        }
+                    }
+                }
+            }
+            case MONTHLY -> {
+                // 시작일의 날짜가 없는 달(예: 31일)은 건너뜀
+                int dayOfMonth = start.getDayOfMonth();
+                YearMonth startMonth = YearMonth.from(start);
+                long months = ChronoUnit.MONTHS.between(startMonth, YearMonth.from(lo));
+                for (YearMonth month = startMonth.plusMonths(months / interval * interval); !month.atDay(1).isAfter(hi) && dates.size() < limit;
+                     month = month.plusMonths(interval)) {
+                    if (dayOfMonth <= month.lengthOfMonth()) {
+                        LocalDate date = month.atDay(dayOfMonth);
+                        if (!date.isBefore(lo) && !date.isAfter(hi)) {
+                            dates.add(date);
+                        }
+                    }
+                }
+            }
+        }
+        return dates;
+    }
+
+    private static Set<DayOfWeek> parseDays(String value) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : value.split(",")) {
+            days.add(switch (day.trim()) {
+                case "MO" -> DayOfWeek.MONDAY;
+                case "TU" -> DayOfWeek.TUESDAY;
+                case "WE" -> DayOfWeek.WEDNESDAY;
+                case "TH" -> DayOfWeek.THURSDAY;
+                case "FR" -> DayOfWeek.FRIDAY;
+                case "SA" -> DayOfWeek.SATURDAY;
+                case "SU" -> DayOfWeek.SUNDAY;
+                default -> throw new IllegalArgumentException(day);
+            });
+        }
+        return days;
+    }
+
+    private static String formatDays(Set<DayOfWeek> days) {
+        return days.stream().map(day -> day.name().substring(0, 2)).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,60 @@
+package com.server.calendar.todo.service;
+
+import com.server.calendar.doamin.RecurringTodo;
+import com.server.calendar.todo.dto.RecurringOccurrenceRow;
+import com.server.calendar.todo.dto.getOneDayTodoListDto;
+import com.server.calendar.todo.repository.RecurringTodoRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 반복 할 일을 요청 기간만큼만 날짜별 항목으로 펼침 (규칙 + 완료 기록 조회 1번)
+@Component
+@RequiredArgsConstructor
+public class RecurringTodoReader {
+
+    private final RecurringTodoRepository recurringTodoRepository;
+
+    public Map<LocalDate, List<getOneDayTodoListDto>> expand(Long userKey, LocalDate from, LocalDate to) {
+        Map<LocalDate, List<getOneDayTodoListDto>> result = new TreeMap<>();
+        // 규칙 id 순서대로, 완료 날짜가 여러 개면 같은 규칙이 연달아 나옴
+        Map<Long, RecurringTodo> rules = new LinkedHashMap<>();
+        Set<String> completed = new HashSet<>();
+        for (RecurringOccurrenceRow row : recurringTodoRepository.findActiveWithCompletions(userKey, from, to)) {
+            rules.putIfAbsent(row.getRule().getId(), row.getRule());
+            if (row.getCompletedDate() != null) {
+                completed.add(row.getRule().getId() + "|" + row.getCompletedDate());
+            }
+        }
+        if (rules.isEmpty()) {
+            return result;
+        }
+
+        int maxDays = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+        for (RecurringTodo rule : rules.values()) {
+            for (LocalDate date : RecurrenceRules.occurrences(rule, from, to, maxDays)) {
+                result.computeIfAbsent(date, d -> new ArrayList<>()).add(getOneDayTodoListDto.builder()
+                        .recurringTodoId(rule.getId())
+                        .title(rule.getTitle())
+                        .category(rule.getCategory())
+                        .isDone(completed.contains(rule.getId() + "|" + date))
+                        .build());
+            }
+        }
+        return result;
+    }
+
+    // 해당 날짜에 아직 완료하지 않은 반복 할 일 개수
+    public long countNotDone(Long userKey, LocalDate date) {
+        return expand(userKey, date, date).getOrDefault(date, List.of()).stream()
+                .filter(todo -> !todo.getIsDone())
+                .count();
+    }
+}
@@ -0,0 +1,15 @@
+package com.server.calendar.todo.service;
+
+import com.server.calendar.todo.dto.CreateRecurringTodoDto;
+import com.server.calendar.util.jwt.JwtPrincipal;
+import com.server.calendar.util.response.CustomApiResponse;
+import java.time.LocalDate;
+import org.springframework.http.ResponseEntity;
+
+public interface RecurringTodoService {
+
+    ResponseEntity<CustomApiResponse<?>> createRecurringTodo(CreateRecurringTodoDto dto, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> getRecurringTodos(JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> changeCheckState(Long recurringTodoId, LocalDate date, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> deleteRecurringTodo(Long recurringTodoId, JwtPrincipal principal);
+}
@@ -0,0 +1,128 @@
+package com.server.calendar.todo.service;
+
+import com.server.calendar.doamin.RecurringTodo;
+import com.server.calendar.todo.dto.CreateRecurringTodoDto;
+import com.server.calendar.todo.dto.RecurringTodoDto;
+import com.server.calendar.todo.repository.RecurringTodoCompletionRepository;
+import com.server.calendar.todo.repository.RecurringTodoRepository;
+import com.server.calendar.user.cache.UserKeyCache;
+import com.server.calendar.user.repository.UserRepository;
+import com.server.calendar.util.exception.CustomValidationException;
+import com.server.calendar.util.exception.EntityNotFoundException;
+import com.server.calendar.util.jwt.JwtPrincipal;
+import com.server.calendar.util.response.CustomApiResponse;
+import io.micrometer.core.annotation.Timed;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 메서드마다 처리 시간 기록 (class/method/exception 태그)
+@Timed(value = "calendar.service", histogram = true)
+@Service
+@RequiredArgsConstructor
+public class RecurringTodoServiceImpl implements RecurringTodoService {
+
+    private final RecurringTodoRepository recurringTodoRepository;
+    private final RecurringTodoCompletionRepository recurringTodoCompletionRepository;
+    private final UserRepository userRepository;
+    private final UserKeyCache userKeyCache;
+    private final TodoStatsUpdater todoStatsUpdater;
+
+    @Transactional
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> createRecurringTodo(CreateRecurringTodoDto dto, JwtPrincipal principal) {
+
+        if (dto.getTitle() == null || dto.getTitle().isBlank()) {
+            throw new CustomValidationException("할 일은 비워둘 수 없습니다.");
+        }
+        if (dto.getCategory() == null) {
+            throw new CustomValidationException("카테고리는 비워둘 수 없습니다.");
+        }
+        LocalDate startDate;
+        try {
+            startDate = LocalDate.parse(dto.getStartDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new CustomValidationException("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
+
+        // 규칙 한 행만 저장 (날짜별 행은 만들지 않음)
+        RecurringTodo recurringTodo = RecurrenceRules.parse(dto.getRrule(), startDate, RecurringTodo.builder())
+                .title(dto.getTitle())
+                .category(dto.getCategory())
+                .user(userRepository.getReferenceById(userKey))
+                .build();
+        recurringTodoRepository.save(recurringTodo);
+
+        // 모든 월의 조회 결과가 바뀔 수 있으므로 사용자 전체 버전 갱신
+        todoStatsUpdater.onRecurringChanged(userKey);
+
+        CustomApiResponse<Long> response = CustomApiResponse.createSuccess(201, recurringTodo.getId(), "반복 할 일 생성 완료");
+        return ResponseEntity.status(201).body(response);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> getRecurringTodos(JwtPrincipal principal) {
+
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
+
+        List<RecurringTodoDto> recurringTodoDtos = recurringTodoRepository.findAllByUserKey(userKey).stream()
+                .map(recurringTodo -> RecurringTodoDto.builder()
+                        .recurringTodoId(recurringTodo.getId())
+                        .title(recurringTodo.getTitle())
+                        .category(recurringTodo.getCategory())
+                        .startDate(recurringTodo.getStartDate())
+                        .rrule(RecurrenceRules.format(recurringTodo))
+                        .build())
+                .collect(Collectors.toList());
+
+        CustomApiResponse<List<RecurringTodoDto>> response = CustomApiResponse.createSuccess(200, recurringTodoDtos, "반복 할 일 목록 조회 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    // 해당 날짜의 완료 기록이 없으면 만들고, 있으면 지움
+    @Transactional
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> changeCheckState(Long recurringTodoId, LocalDate date, JwtPrincipal principal) {
+
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
+
+        RecurringTodo recurringTodo = recurringTodoRepository.findByIdAndUserKey(recurringTodoId, userKey)
+                .orElseThrow(() -> new EntityNotFoundException("찾을 수 없는 할 일 입니다."));
+        if (!RecurrenceRules.isOccurrence(recurringTodo, date)) {
+            throw new EntityNotFoundException("해당 날짜에는 반복되지 않는 할 일 입니다.");
+        }
+
+        if (recurringTodoCompletionRepository.markDone(recurringTodoId, userKey, date) == 0) {
+            recurringTodoCompletionRepository.markNotDone(recurringTodoId, userKey, date);
+        }
+        todoStatsUpdater.onOccurrenceToggled(userKey, date);
+
+        CustomApiResponse<?> response = CustomApiResponse.createSuccess(200, null, "체크 표시 변경 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    @Transactional
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> deleteRecurringTodo(Long recurringTodoId, JwtPrincipal principal) {
+
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
+
+        recurringTodoCompletionRepository.deleteByRecurringTodoId(recurringTodoId, userKey);
+        if (recurringTodoRepository.deleteByIdAndUserKey(recurringTodoId, userKey) == 0) {
+            throw new EntityNotFoundException("찾을 수 없는 할 일 입니다.");
+        }
+        todoStatsUpdater.onRecurringChanged(userKey);
+
+        CustomApiResponse<?> response = CustomApiResponse.createSuccess(200, null, "삭제 성공");
+        return ResponseEntity.ok(response);
+    }
+}
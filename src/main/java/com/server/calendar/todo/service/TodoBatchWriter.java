@@ -0,0 +1,70 @@
+package com.server.calendar.todo.service;
+
+import com.server.calendar.doamin.TodoList;
+import com.server.calendar.doamin.User;
+import com.server.calendar.todo.dto.ImportedTodoDto;
+import com.server.calendar.todo.dto.TodoTitleRow;
+import com.server.calendar.todo.repository.TodoRepository;
+import com.server.calendar.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 여러 할 일을 한 트랜잭션에서 JDBC 배치로 저장하고 통계는 날짜별로 한 번씩만 갱신 (일괄 생성, 가져오기)
+@Component
+@RequiredArgsConstructor
+public class TodoBatchWriter {
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final TodoStatsUpdater todoStatsUpdater;
+
+    @Transactional
+    public List<TodoList> insertAll(Long userKey, List<TodoList> todoLists) {
+        // id 는 persist 시점에 미리 할당되고, insert 는 flush 때 batch_size 단위로 묶여 실행됨
+        List<TodoList> saved = todoRepository.saveAll(todoLists);
+
+        Map<LocalDate, long[]> countsPerDate = new TreeMap<>();
+        for (TodoList todoList : saved) {
+            long[] counts = countsPerDate.computeIfAbsent(todoList.getDate(), date -> new long[2]);
+            counts[todoList.getIsDone() ? 0 : 1]++;
+        }
+        todoStatsUpdater.applyDeltas(userKey, countsPerDate);
+
+        return saved;
+    }
+
+    // 가져온 항목 중 같은 날짜에 같은 제목이 없는 것만 저장하고 저장한 개수 반환
+    @Transactional
+    public int insertNew(Long userKey, List<ImportedTodoDto> rows) {
+        Set<LocalDate> dates = rows.stream().map(ImportedTodoDto::getDate).collect(Collectors.toSet());
+        Set<String> existing = new HashSet<>();
+        for (TodoTitleRow row : todoRepository.findTitlesByUserKeyAndDateIn(userKey, dates)) {
+            existing.add(row.getDate() + "|" + row.getTitle());
+        }
+
+        User user = userRepository.getReferenceById(userKey);
+        List<TodoList> todoLists = new ArrayList<>();
+        for (ImportedTodoDto row : rows) {
+            if (existing.add(row.getDate() + "|" + row.getTitle())) {
+                todoLists.add(TodoList.builder()
+                        .date(row.getDate())
+                        .title(row.getTitle())
+                        .category(row.getCategory())
+                        .isDone(row.isDone())
+                        .user(user)
+                        .build());
+            }
+        }
+        insertAll(userKey, todoLists);
+        return todoLists.size();
+    }
+}
@@ -0,0 +1,110 @@
+package com.server.calendar.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.calendar.todo.dto.TodoRangeRow;
+import com.server.calendar.todo.repository.TodoRepository;
+import com.server.calendar.util.exception.CustomValidationException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// 전체 기록 내보내기 - 커서로 한 행씩 읽어 바로 응답 스트림에 씀 (목록을 메모리에 올리지 않음)
+@Component
+public class TodoExporter {
+
+    private static final String CSV_HEADER = "todoId,date,title,category,isDone\n";
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TodoExporter(TodoRepository todoRepository, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.todoRepository = todoRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public static String contentType(String format) {
+        return switch (format) {
+            case "ndjson" -> "application/x-ndjson";
+            case "csv" -> "text/csv;charset=UTF-8";
+            default -> throw new CustomValidationException("지원하지 않는 형식입니다. (ndjson, csv)");
+        };
+    }
+
+    // 응답을 쓰기 시작할 때 트랜잭션(커넥션)을 잡고, 다 쓰면 바로 놓음
+    public StreamingResponseBody export(Long userKey, String format) {
+        contentType(format);
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TodoRangeRow> rows = todoRepository.streamExportByUserKey(userKey)) {
+                if (format.equals("csv")) {
+                    writeCsv(rows.iterator(), outputStream);
+                } else {
+                    writeNdjson(rows.iterator(), outputStream);
+                }
+            } catch (IOException e) {
+                // 클라이언트가 끊으면 여기서 끝나고 커서/커넥션이 정리됨
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeNdjson(Iterator<TodoRangeRow> rows, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.setRootValueSeparator(null);
+        while (rows.hasNext()) {
+            TodoRangeRow row = rows.next();
+            generator.writeStartObject();
+            generator.writeNumberField("todoId", row.getId());
+            generator.writeStringField("date", row.getDate().toString());
+            generator.writeStringField("title", row.getTitle());
+            generator.writeStringField("category", row.getCategory() == null ? null : row.getCategory().name());
+            generator.writeBooleanField("isDone", Boolean.TRUE.equals(row.getIsDone()));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<TodoRangeRow> rows, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        while (rows.hasNext()) {
+            TodoRangeRow row = rows.next();
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writer.write(row.getDate().toString());
+            writer.write(',');
+            writer.write(csvField(row.getTitle()));
+            writer.write(',');
+            writer.write(row.getCategory() == null ? "" : row.getCategory().name());
+            writer.write(',');
+            writer.write(String.valueOf(Boolean.TRUE.equals(row.getIsDone())));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,20 +1,30 @@
 package com.server.calendar.todo.service;
 
+import com.server.calendar.todo.dto.BulkTodoDto;
 import com.server.calendar.todo.dto.ChangeTitleDto;
 import com.server.calendar.todo.dto.CreateTodoDto;
+import com.server.calendar.util.jwt.JwtPrincipal;
 import com.server.calendar.util.response.CustomApiResponse;
-import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface TodoService {
 
-    ResponseEntity<CustomApiResponse<?>> createTodo(CreateTodoDto dto, HttpServletRequest request);
-    ResponseEntity<CustomApiResponse<?>> getOneDayTodoList(LocalDate date, HttpServletRequest request);
-    ResponseEntity<CustomApiResponse<?>> getOneMonth(String date, HttpServletRequest request);
-    ResponseEntity<CustomApiResponse<?>> getNotDoneCount(HttpServletRequest request);
-    ResponseEntity<CustomApiResponse<?>> changeCheckState(Long todoId, HttpServletRequest request);
-    ResponseEntity<CustomApiResponse<?>> changeTitle(ChangeTitleDto dto, Long todoId, HttpServletRequest request);
-    ResponseEntity<CustomApiResponse<?>> deleteTodo(Long todoId, HttpServletRequest request);
+    ResponseEntity<CustomApiResponse<?>> createTodo(CreateTodoDto dto, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> createTodos(List<CreateTodoDto> dtos, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> getOneDayTodoList(LocalDate date, String ifNoneMatch, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> getRange(LocalDate from, LocalDate to, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> importIcs(InputStream ics, JwtPrincipal principal) throws IOException;
+    ResponseEntity<StreamingResponseBody> export(String format, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> getOneMonth(String date, String ifNoneMatch, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> getNotDoneCount(LocalDate date, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> changeCheckState(Long todoId, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> changeTitle(ChangeTitleDto dto, Long todoId, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> bulkUpdate(BulkTodoDto dto, JwtPrincipal principal);
+    ResponseEntity<CustomApiResponse<?>> deleteTodo(Long todoId, JwtPrincipal principal);
 
 }
@@ -2,54 +2,87 @@ package com.server.calendar.todo.service;
 
 import com.server.calendar.doamin.TodoList;
 import com.server.calendar.doamin.User;
+import com.server.calendar.todo.cache.TodoDayCache;
+import com.server.calendar.todo.dto.BatchCreateResultDto;
+import com.server.calendar.todo.dto.BulkOperation;
+import com.server.calendar.todo.dto.BulkTodoDto;
+import com.server.calendar.todo.dto.BulkTodoResultDto;
 import com.server.calendar.todo.dto.ChangeTitleDto;
 import com.server.calendar.todo.dto.CreateTodoDto;
 import com.server.calendar.todo.dto.CreateTodoDto.CreateTodoDtoBuilder;
+import com.server.calendar.todo.dto.DailyTodoCount;
 import com.server.calendar.todo.dto.GetOneMonthDto;
+import com.server.calendar.todo.dto.ImportResultDto;
+import com.server.calendar.todo.dto.ImportedTodoDto;
+import com.server.calendar.todo.dto.TodoRangeRow;
+import com.server.calendar.todo.dto.TodoStateRow;
 import com.server.calendar.todo.dto.getOneDayTodoListDto;
+import com.server.calendar.todo.repository.DailyTodoStatsRepository;
 import com.server.calendar.todo.repository.TodoRepository;
+import com.server.calendar.user.cache.UserKeyCache;
 import com.server.calendar.user.repository.UserRepository;
+import com.server.calendar.util.exception.CustomValidationException;
 import com.server.calendar.util.exception.EntityNotFoundException;
-import com.server.calendar.util.exception.TokenInvalidException;
-import com.server.calendar.util.jwt.JwtTokenProvider;
+import com.server.calendar.util.jwt.JwtPrincipal;
 import com.server.calendar.util.response.CustomApiResponse;
-import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+// 메서드마다 처리 시간 기록 (class/method/exception 태그)
+@Timed(value = "calendar.service", histogram = true)
 @Service
 @RequiredArgsConstructor
 public class TodoServiceImpl implements TodoService{
 
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_RANGE_DAYS = 42;
+
+    // 클라이언트가 저장해 두되 매번 ETag 로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
-    private final JwtTokenProvider jwtTokenProvider;
-
+    private final UserKeyCache userKeyCache;
+    private final TodoDayCache todoDayCache;
+    private final DailyTodoStatsRepository dailyTodoStatsRepository;
+    private final TodoStatsUpdater todoStatsUpdater;
+    private final NotDoneCounter notDoneCounter;
+    private final TodoBatchWriter todoBatchWriter;
+    private final TodoVersions todoVersions;
+    private final TodoExporter todoExporter;
+    private final RecurringTodoReader recurringTodoReader;
+
+    @Transactional
     @Override
-    public ResponseEntity<CustomApiResponse<?>> createTodo(CreateTodoDto dto, HttpServletRequest request) {
-
-        // 헤더에서 토큰 받아오기
-        String token = extractToken(request);
-
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
-            throw new TokenInvalidException("토큰이 유효하지 않습니다.");
-        }
-
-        // 토큰에서 userId 추출
-        String userId = jwtTokenProvider.getClaimsFromToken(token).getSubject();
+    public ResponseEntity<CustomApiResponse<?>> createTodo(CreateTodoDto dto, JwtPrincipal principal) {
 
-        // userId를 사용하여 User 엔티티 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        // 캐시된 사용자 키로 User 프록시 획득 (조회 쿼리 없음)
+        User user = getUserReference(principal);
 
 
         // DTO를 TodoList 엔티티로 변환하고 User 엔티티와 연결
@@ -66,115 +99,248 @@ public class TodoServiceImpl implements TodoService{
         // TodoList 엔티티 저장
         todoRepository.save(todoList);
 
+        // 하루 통계 갱신
+        todoStatsUpdater.onCreated(user.getId(), parsedDate, todoList.getIsDone());
+
         CustomApiResponse<?> response = CustomApiResponse.createSuccess(201, null, "할 일 생성 성공");
         return ResponseEntity.status(201).body(response);
     }
 
+    @Transactional
     @Override
-    public ResponseEntity<CustomApiResponse<?>> getOneDayTodoList(LocalDate date, HttpServletRequest request) {
+    public ResponseEntity<CustomApiResponse<?>> createTodos(List<CreateTodoDto> dtos, JwtPrincipal principal) {
+
+        if (dtos == null || dtos.isEmpty() || dtos.size() > MAX_BATCH_SIZE) {
+            throw new CustomValidationException("한 번에 1개 이상 " + MAX_BATCH_SIZE + "개 이하의 할 일만 생성할 수 있습니다.");
+        }
+
+        // 캐시된 사용자 키로 User 프록시 획득 (조회 쿼리 없음)
+        User user = getUserReference(principal);
+
+        // 항목별로 검증하고, 올바른 항목만 엔티티로 변환
+        String[] errors = new String[dtos.size()];
+        List<TodoList> todoLists = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            CreateTodoDto dto = dtos.get(i);
+            errors[i] = validateCreateTodo(dto);
+            if (errors[i] != null) {
+                continue;
+            }
+            todoLists.add(TodoList.builder()
+                    .title(dto.getTitle())
+                    .date(LocalDate.parse(dto.getDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd")))
+                    .category(dto.getCategory())
+                    .user(user)
+                    .build());
+            indexes.add(i);
+        }
 
-        // 헤더에서 토큰 받아오기
-        String token = extractToken(request);
+        // 한 트랜잭션에서 배치로 저장
+        List<TodoList> saved = todoBatchWriter.insertAll(user.getId(), todoLists);
 
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
-            throw new TokenInvalidException("토큰이 유효하지 않습니다.");
+        Long[] todoIds = new Long[dtos.size()];
+        for (int i = 0; i < saved.size(); i++) {
+            todoIds[indexes.get(i)] = saved.get(i).getId();
         }
 
-        // 토큰에서 userId 추출
-        String userId = jwtTokenProvider.getClaimsFromToken(token).getSubject();
+        List<BatchCreateResultDto> results = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            results.add(BatchCreateResultDto.builder()
+                    .index(i)
+                    .todoId(todoIds[i])
+                    .error(errors[i])
+                    .build());
+        }
 
-        // userId를 사용하여 User 엔티티 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        String message = "할 일 일괄 생성 완료 (성공 " + saved.size() + "건, 실패 " + (dtos.size() - saved.size()) + "건)";
+        CustomApiResponse<List<BatchCreateResultDto>> response = CustomApiResponse.createSuccess(201, results, message);
+        return ResponseEntity.status(201).body(response);
+    }
+
+    // 읽기 전용 트랜잭션 (flush/dirty checking 생략)
+    @Transactional(readOnly = true)
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> getOneDayTodoList(LocalDate date, String ifNoneMatch, JwtPrincipal principal) {
 
-        // 특정 날짜의 할 일 목록 조회
-        List<TodoList> todos = todoRepository.findByUserAndDate(user, date);
+        // 캐시된 사용자 키
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
 
-        // DTO로 변환
-        List<getOneDayTodoListDto> todoListDtos = todos.stream()
-                .map(todo -> getOneDayTodoListDto.builder()
-                        .todoId(todo.getId())
-                        .title(todo.getTitle())
-                        .category(todo.getCategory())
-                        .isDone(todo.getIsDone())
-                        .build())
-                .collect(Collectors.toList());
+        // 버전이 그대로면 할 일을 읽지 않고 304
+        TodoVersions.MonthVersion version = todoVersions.read(userKey, YearMonth.from(date));
+        String eTag = version.dayETag(date);
+        if (TodoVersions.matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+
+        // 같은 버전으로 조회한 적이 있으면 할 일 목록은 DB 를 다시 읽지 않음 (위의 월 버전 조회는 서버 간 일관성을 위해 남김)
+        List<getOneDayTodoListDto> todoListDtos = todoDayCache.get(userKey, date, eTag);
+        if (todoListDtos == null) {
+            // 특정 날짜의 할 일 목록을 DTO 로 바로 조회 (영속성 컨텍스트에 엔티티를 올리지 않음)
+            todoListDtos = new ArrayList<>(todoRepository.findDayViewByUserKeyAndDate(userKey, date));
+
+            // 그날에 해당하는 반복 할 일 추가 (규칙을 만든 적이 없으면 조회 생략)
+            if (version.mayHaveRecurring()) {
+                todoListDtos.addAll(recurringTodoReader.expand(userKey, date, date).getOrDefault(date, List.of()));
+            }
+
+            todoDayCache.put(userKey, date, eTag, todoListDtos);
+        }
 
         CustomApiResponse<List<getOneDayTodoListDto>> response = CustomApiResponse.createSuccess(200, todoListDtos, "할 일 목록 조회 성공");
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(response);
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public ResponseEntity<CustomApiResponse<?>> getOneMonth(String date, HttpServletRequest request) {
-        // 헤더에서 토큰 받아오기
-        String token = extractToken(request);
+    public ResponseEntity<CustomApiResponse<?>> getRange(LocalDate from, LocalDate to, JwtPrincipal principal) {
+
+        if (from.isAfter(to)) {
+            throw new CustomValidationException("시작 날짜는 끝 날짜보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomValidationException("한 번에 최대 " + MAX_RANGE_DAYS + "일까지 조회할 수 있습니다.");
+        }
+
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
+
+        // 할 일이 없는 날도 빈 목록으로 포함 (날짜 순서 유지)
+        Map<LocalDate, List<getOneDayTodoListDto>> resultMap = new LinkedHashMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            resultMap.put(day, new ArrayList<>());
+        }
+
+        // 기간 전체를 쿼리 한 번으로 조회해서 날짜별로 묶음
+        for (TodoRangeRow row : todoRepository.findRangeViewByUserKeyAndDateBetween(userKey, from, to)) {
+            resultMap.get(row.getDate()).add(getOneDayTodoListDto.builder()
+                    .todoId(row.getId())
+                    .title(row.getTitle())
+                    .category(row.getCategory())
+                    .isDone(row.getIsDone())
+                    .build());
+        }
+
+        // 기간 안의 반복 할 일 추가
+        recurringTodoReader.expand(userKey, from, to).forEach((day, occurrences) -> resultMap.get(day).addAll(occurrences));
+
+        CustomApiResponse<Map<LocalDate, List<getOneDayTodoListDto>>> response = CustomApiResponse.createSuccess(200, resultMap, "기간 할 일 목록 조회 성공");
+        return ResponseEntity.ok(response);
+    }
 
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
-            throw new TokenInvalidException("토큰이 유효하지 않습니다.");
+    // 묶음마다 트랜잭션이 따로 끝나므로 영속성 컨텍스트와 메모리 사용량이 묶음 크기로 제한됨
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> importIcs(InputStream ics, JwtPrincipal principal) throws IOException {
+
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
+
+        IcsTodoParser parser = new IcsTodoParser(new InputStreamReader(ics, StandardCharsets.UTF_8));
+        List<ImportedTodoDto> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        long[] parsed = new long[1];
+        long[] imported = new long[1];
+        parser.parse(row -> {
+            batch.add(row);
+            parsed[0]++;
+            if (batch.size() == MAX_BATCH_SIZE) {
+                imported[0] += todoBatchWriter.insertNew(userKey, batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            imported[0] += todoBatchWriter.insertNew(userKey, batch);
         }
 
-        // 토큰에서 userId 추출
-        String userId = jwtTokenProvider.getClaimsFromToken(token).getSubject();
+        ImportResultDto result = ImportResultDto.builder()
+                .imported(imported[0])
+                .skipped(parser.getSkipped())
+                .duplicates(parsed[0] - imported[0])
+                .build();
+
+        CustomApiResponse<ImportResultDto> response = CustomApiResponse.createSuccess(201, result, "가져오기 완료");
+        return ResponseEntity.status(201).body(response);
+    }
 
-        // userId를 사용하여 User 엔티티 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(String format, JwtPrincipal principal) {
+
+        // 형식과 사용자는 응답을 쓰기 전에 확인 (잘못되면 일반 오류 응답)
+        String contentType = TodoExporter.contentType(format);
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + format + "\"")
+                .body(todoExporter.export(userKey, format));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> getOneMonth(String date, String ifNoneMatch, JwtPrincipal principal) {
+        // 캐시된 사용자 키
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
 
         // date 파싱하여 YearMonth 객체로 변환
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
         YearMonth yearMonth = YearMonth.parse(date, formatter);
 
+        // 버전이 그대로면 통계를 읽지 않고 304
+        TodoVersions.MonthVersion version = todoVersions.read(userKey, yearMonth);
+        String eTag = version.monthETag();
+        if (TodoVersions.matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+
         // 해당 달의 첫 번째 날과 마지막 날 계산
         LocalDate firstDayOfMonth = yearMonth.atDay(1);
         LocalDate lastDayOfMonth = yearMonth.atEndOfMonth();
 
-        // 해당 달의 모든 TodoList 조회
-        List<TodoList> todos = todoRepository.findByUserAndDateBetween(user, firstDayOfMonth, lastDayOfMonth);
+        // 해당 달의 하루 통계 조회 (최대 31행)
+        List<DailyTodoCount> counts = dailyTodoStatsRepository.findDailyByUserKeyAndDateBetween(userKey, firstDayOfMonth, lastDayOfMonth);
 
-        // 날짜별 할 일 통계 계산
+        // 반복 할 일은 해당 달만 펼쳐서 더함 (규칙을 만든 적이 없으면 조회 생략)
+        Map<Integer, GetOneMonthDto> resultMap = aggregateMonth(yearMonth, counts, version.mayHaveRecurring()
+                ? recurringTodoReader.expand(userKey, firstDayOfMonth, lastDayOfMonth) : Map.of());
+
+        CustomApiResponse<Map<Integer, GetOneMonthDto>> response = CustomApiResponse.createSuccess(200, resultMap, "한 달 조회 성공");
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(response);
+    }
+
+    // 날짜별 통계와 펼친 반복 할 일을 일(day) -> 개수 맵으로 합침 (할 일이 없는 날은 0)
+    static Map<Integer, GetOneMonthDto> aggregateMonth(YearMonth yearMonth, List<DailyTodoCount> counts,
+                                                       Map<LocalDate, List<getOneDayTodoListDto>> recurring) {
+        // 할 일이 없는 날은 0으로 채우고, 집계 결과는 한 번만 순회
         Map<Integer, GetOneMonthDto> resultMap = new HashMap<>();
-        for (LocalDate day = firstDayOfMonth; !day.isAfter(lastDayOfMonth); day = day.plusDays(1)) {
-            int doneCount = 0;
-            int notDoneCount = 0;
-
-            for (TodoList todo : todos) {
-                if (todo.getDate().equals(day)) {
-                    if (todo.getIsDone()) {
-                        doneCount++;
-                    } else {
-                        notDoneCount++;
-                    }
-                }
-            }
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            resultMap.put(day, GetOneMonthDto.builder().build());
+        }
+        for (DailyTodoCount count : counts) {
+            resultMap.put(count.getDate().getDayOfMonth(), GetOneMonthDto.builder()
+                    .doneCount(count.getDoneCount().intValue())
+                    .notDoneCount(count.getNotDoneCount().intValue())
+                    .build());
+        }
 
+        recurring.forEach((day, occurrences) -> {
+            GetOneMonthDto current = resultMap.get(day.getDayOfMonth());
+            int done = (int) occurrences.stream().filter(getOneDayTodoListDto::getIsDone).count();
             resultMap.put(day.getDayOfMonth(), GetOneMonthDto.builder()
-                    .doneCount(doneCount)
-                    .notDoneCount(notDoneCount)
+                    .doneCount(current.getDoneCount() + done)
+                    .notDoneCount(current.getNotDoneCount() + occurrences.size() - done)
                     .build());
-        }
+        });
 
-        CustomApiResponse<Map<Integer, GetOneMonthDto>> response = CustomApiResponse.createSuccess(200, resultMap, "한 달 조회 성공");
-        return ResponseEntity.ok(response);
+        return resultMap;
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public ResponseEntity<CustomApiResponse<?>> getNotDoneCount(HttpServletRequest request) {
-        // 헤더에서 토큰 받아오기
-        String token = extractToken(request);
+    public ResponseEntity<CustomApiResponse<?>> getNotDoneCount(LocalDate date, JwtPrincipal principal) {
+        // 캐시된 사용자 키로 User 프록시 획득 (조회 쿼리 없음)
+        User user = getUserReference(principal);
 
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
-            throw new TokenInvalidException("토큰이 유효하지 않습니다.");
-        }
-
-        // 토큰에서 userId 추출
-        String userId = jwtTokenProvider.getClaimsFromToken(token).getSubject();
-
-        // userId를 사용하여 User 엔티티 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
-        // 연관된 todoList 중 isDone 상태가 false 인 엔티티들 개수 찾기
-        Long count = todoRepository.countTodoListsByUserAndIsDone(user, false);
+        // 유지되는 카운터 한 행만 조회 (TodoLists 를 훑지 않음)
+        // 반복 할 일은 끝이 없을 수 있으므로 클라이언트가 보낸 날짜(오늘) 몫만 더함
+        // (반복 할 일 규칙과 완료 기록을 함께 읽는 쿼리 1번이 더 나감)
+        Long count = notDoneCounter.get(user.getId()) + recurringTodoReader.countNotDone(user.getId(), date);
 
         // data 넣기
         CustomApiResponse<?> response = CustomApiResponse.createSuccess(200, count, "아직 끝나지 않은 일 개수 조회 성공");
@@ -182,92 +348,154 @@ public class TodoServiceImpl implements TodoService{
     }
 
 
+    @Transactional
     @Override
-    public ResponseEntity<CustomApiResponse<?>> changeCheckState(Long todoId, HttpServletRequest request) {
+    public ResponseEntity<CustomApiResponse<?>> changeCheckState(Long todoId, JwtPrincipal principal) {
 
-        // 헤더에서 토큰 받아오기
-        String token = extractToken(request);
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
 
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
-            throw new TokenInvalidException("토큰이 유효하지 않습니다.");
+        // 소유자 조건을 포함한 UPDATE 한 번으로 상태 반전
+        if (todoRepository.toggleDone(todoId, userKey) == 0) {
+            throw new EntityNotFoundException("찾을 수 없는 할 일 입니다.");
         }
 
-        // 토큰에서 userId 추출
-        String userId = jwtTokenProvider.getClaimsFromToken(token).getSubject();
-
-        // userId를 사용하여 User 엔티티 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
-        TodoList todoList = todoRepository.findTodoListById(todoId).orElseThrow(
-                () -> new EntityNotFoundException("찾을 수 없는 할 일 입니다.")
-        );
-
-        todoList.changeDoneStatus();
-        todoRepository.save(todoList);
+        // 하루 통계 갱신
+        todoStatsUpdater.onToggled(userKey, todoId);
 
         CustomApiResponse<?> response = CustomApiResponse.createSuccess(200, null, "체크 표시 변경 성공");
         return ResponseEntity.ok(response);
     }
 
+    @Transactional
     @Override
-    public ResponseEntity<CustomApiResponse<?>> changeTitle(ChangeTitleDto dto, Long todoId, HttpServletRequest request) {
-        // 헤더에서 토큰 받아오기
-        String token = extractToken(request);
-
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
-            throw new TokenInvalidException("토큰이 유효하지 않습니다.");
-        }
+    public ResponseEntity<CustomApiResponse<?>> changeTitle(ChangeTitleDto dto, Long todoId, JwtPrincipal principal) {
 
-        // 토큰에서 userId 추출
-        String userId = jwtTokenProvider.getClaimsFromToken(token).getSubject();
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
 
-        // userId를 사용하여 User 엔티티 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-
-        TodoList todoList = todoRepository.findTodoListById(todoId).orElseThrow(
-                () -> new EntityNotFoundException("찾을 수 없는 할 일 입니다.")
-        );
+        // 소유자 조건을 포함한 UPDATE 한 번으로 수정
+        if (todoRepository.updateTitle(todoId, userKey, dto.getTitle()) == 0) {
+            throw new EntityNotFoundException("찾을 수 없는 할 일 입니다.");
+        }
 
-        todoList.changeTitle(dto);
-        todoRepository.save(todoList);
+        // 조회 응답 버전 갱신
+        todoStatsUpdater.onRetitled(userKey, todoId);
 
         CustomApiResponse<?> response = CustomApiResponse.createSuccess(200, null, "수정 성공");
         return ResponseEntity.ok(response);
     }
 
+    @Transactional
     @Override
-    public ResponseEntity<CustomApiResponse<?>> deleteTodo(Long todoId, HttpServletRequest request) {
-        // 헤더에서 토큰 받아오기
-        String token = extractToken(request);
+    public ResponseEntity<CustomApiResponse<?>> bulkUpdate(BulkTodoDto dto, JwtPrincipal principal) {
 
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
-            throw new TokenInvalidException("토큰이 유효하지 않습니다.");
+        if (dto.getOperation() == null) {
+            throw new CustomValidationException("작업을 지정해야 합니다.");
+        }
+        if (dto.getTodoIds() == null || dto.getTodoIds().isEmpty() || dto.getTodoIds().size() > MAX_BATCH_SIZE) {
+            throw new CustomValidationException("한 번에 1개 이상 " + MAX_BATCH_SIZE + "개 이하의 할 일만 변경할 수 있습니다.");
+        }
+        if (dto.getOperation() == BulkOperation.RETITLE && (dto.getTitle() == null || dto.getTitle().isBlank())) {
+            throw new CustomValidationException("할 일은 비워둘 수 없습니다.");
         }
 
-        // 토큰에서 userId 추출
-        String userId = jwtTokenProvider.getClaimsFromToken(token).getSubject();
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
+        Set<Long> requestedIds = new LinkedHashSet<>(dto.getTodoIds());
+
+        // 내 할 일만 골라 현재 상태를 읽음 (SELECT 한 번)
+        List<TodoStateRow> rows = todoRepository.findStatesForUpdate(requestedIds, userKey);
+        List<Long> affectedIds = rows.stream().map(TodoStateRow::getId).sorted().collect(Collectors.toList());
+        List<Long> notFoundIds = requestedIds.stream().filter(id -> !affectedIds.contains(id)).collect(Collectors.toList());
+
+        if (!affectedIds.isEmpty()) {
+            // 소유자 조건을 포함한 문장 한 번으로 적용
+            switch (dto.getOperation()) {
+                case DONE -> todoRepository.updateDoneAll(affectedIds, userKey, true);
+                case NOT_DONE -> todoRepository.updateDoneAll(affectedIds, userKey, false);
+                case TOGGLE -> todoRepository.toggleDoneAll(affectedIds, userKey);
+                case RETITLE -> todoRepository.updateTitleAll(affectedIds, userKey, dto.getTitle());
+                case DELETE -> todoRepository.deleteAllByIdsAndUserKey(affectedIds, userKey);
+            }
 
-        // userId를 사용하여 User 엔티티 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+            // 변경 전 상태로 날짜별 증감을 계산해서 통계에 한 번씩 반영
+            todoStatsUpdater.applyDeltas(userKey, statsDeltas(rows, dto.getOperation()));
+        }
 
-        TodoList todoList = todoRepository.findTodoListById(todoId).orElseThrow(
-                () -> new EntityNotFoundException("찾을 수 없는 할 일 입니다.")
-        );
+        BulkTodoResultDto result = BulkTodoResultDto.builder()
+                .operation(dto.getOperation())
+                .affectedIds(affectedIds)
+                .notFoundIds(notFoundIds)
+                .build();
 
-        todoRepository.delete(todoList);
+        CustomApiResponse<BulkTodoResultDto> response = CustomApiResponse.createSuccess(200, result, "일괄 작업 성공");
+        return ResponseEntity.ok(response);
+    }
+
+    @Transactional
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> deleteTodo(Long todoId, JwtPrincipal principal) {
+
+        Long userKey = userKeyCache.getUserKey(principal.getUserId());
+
+        // 지워질 행의 상태로 하루 통계를 먼저 갱신 (내 할 일이 아니면 변경 없음)
+        todoStatsUpdater.beforeDeleted(userKey, todoId);
+
+        // 소유자 조건을 포함한 DELETE 한 번으로 삭제 (실패하면 위의 갱신도 롤백)
+        if (todoRepository.deleteByIdAndUserKey(todoId, userKey) == 0) {
+            throw new EntityNotFoundException("찾을 수 없는 할 일 입니다.");
+        }
 
         CustomApiResponse<?> response = CustomApiResponse.createSuccess(200, null, "삭제 성공");
         return ResponseEntity.ok(response);
     }
 
-    private String extractToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+    // 날짜별 {완료, 미완료} 증감
+    private Map<LocalDate, long[]> statsDeltas(List<TodoStateRow> rows, BulkOperation operation) {
+        Map<LocalDate, long[]> deltasPerDate = new TreeMap<>();
+        for (TodoStateRow row : rows) {
+            boolean before = row.getIsDone();
+            long[] deltas = deltasPerDate.computeIfAbsent(row.getDate(), date -> new long[2]);
+            if (operation == BulkOperation.DELETE) {
+                deltas[before ? 0 : 1]--;
+                continue;
+            }
+            boolean after = switch (operation) {
+                case DONE -> true;
+                case NOT_DONE -> false;
+                case TOGGLE -> !before;
+                default -> before;
+            };
+            if (before != after) {
+                deltas[before ? 0 : 1]--;
+                deltas[after ? 0 : 1]++;
+            }
+        }
+        return deltasPerDate;
+    }
+
+    // 일괄 생성 항목 검증 (올바르면 null)
+    private String validateCreateTodo(CreateTodoDto dto) {
+        if (dto == null) {
+            return "비어 있는 항목입니다.";
+        }
+        if (dto.getTitle() == null || dto.getTitle().isBlank()) {
+            return "할 일은 비워둘 수 없습니다.";
+        }
+        if (dto.getCategory() == null) {
+            return "카테고리는 비워둘 수 없습니다.";
+        }
+        try {
+            LocalDate.parse(dto.getDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        } catch (DateTimeParseException | NullPointerException e) {
+            return "날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)";
         }
         return null;
     }
+
+    private ResponseEntity<CustomApiResponse<?>> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
+    }
+
+    private User getUserReference(JwtPrincipal principal) {
+        return userRepository.getReferenceById(userKeyCache.getUserKey(principal.getUserId()));
+    }
 }
@@ -0,0 +1,97 @@
+package com.server.calendar.todo.service;
+
+import com.server.calendar.todo.cache.TodoDayCache;
+import com.server.calendar.todo.repository.DailyTodoStatsRepository;
+import com.server.calendar.todo.repository.TodoMonthVersionRepository;
+import com.server.calendar.todo.repository.UserTodoCounterRepository;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 할 일 변경을 호출한 트랜잭션 안에서 통계와 월별 버전을 함께 갱신하고, 커밋 뒤 하루 목록 캐시를 비움
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class TodoStatsUpdater {
+
+    private final DailyTodoStatsRepository dailyTodoStatsRepository;
+    private final UserTodoCounterRepository userTodoCounterRepository;
+    private final TodoMonthVersionRepository todoMonthVersionRepository;
+    private final TodoDayCache todoDayCache;
+
+    public void onCreated(Long userKey, LocalDate date, boolean isDone) {
+        dailyTodoStatsRepository.applyDelta(userKey, date, isDone ? 1 : 0, isDone ? 0 : 1);
+        if (!isDone) {
+            userTodoCounterRepository.applyDelta(userKey, 1);
+        }
+        todoMonthVersionRepository.bump(userKey, TodoVersions.monthKey(date));
+        todoDayCache.evict(userKey);
+    }
+
+    // 날짜별 {완료, 미완료} 증감을 한 번에 반영 (일괄 생성/변경/삭제, 증감이 0인 날짜도 버전은 올림)
+    public void applyDeltas(Long userKey, Map<LocalDate, long[]> deltasPerDate) {
+        long notDone = 0;
+        Set<Integer> monthKeys = new TreeSet<>();
+        for (Map.Entry<LocalDate, long[]> entry : deltasPerDate.entrySet()) {
+            monthKeys.add(TodoVersions.monthKey(entry.getKey()));
+            long[] deltas = entry.getValue();
+            if (deltas[0] == 0 && deltas[1] == 0) {
+                continue;
+            }
+            dailyTodoStatsRepository.applyDelta(userKey, entry.getKey(), deltas[0], deltas[1]);
+            notDone += deltas[1];
+        }
+        if (notDone != 0) {
+            userTodoCounterRepository.applyDelta(userKey, notDone);
+        }
+        for (Integer monthKey : monthKeys) {
+            todoMonthVersionRepository.bump(userKey, monthKey);
+        }
+        todoDayCache.evict(userKey);
+    }
+
+    // 상태가 바뀐 뒤에 호출 (바뀐 상태는 DB 에서 읽음)
+    public void onToggled(Long userKey, Long todoId) {
+        dailyTodoStatsRepository.applyToggle(userKey, todoId);
+        userTodoCounterRepository.applyToggle(userKey, todoId);
+        todoMonthVersionRepository.bumpByTodo(userKey, todoId);
+        todoDayCache.evict(userKey);
+    }
+
+    // 통계는 그대로, 조회 응답만 바뀜
+    public void onRetitled(Long userKey, Long todoId) {
+        todoMonthVersionRepository.bumpByTodo(userKey, todoId);
+        todoDayCache.evict(userKey);
+    }
+
+    // 삭제하기 전에 호출 (소유자가 아니면 아무 행도 바뀌지 않음)
+    public void beforeDeleted(Long userKey, Long todoId) {
+        dailyTodoStatsRepository.applyDelete(userKey, todoId);
+        userTodoCounterRepository.applyDelete(userKey, todoId);
+        todoMonthVersionRepository.bumpByTodo(userKey, todoId);
+        todoDayCache.evict(userKey);
+    }
+
+    // 반복 할 일 규칙이 생기거나 지워지면 모든 월의 조회 결과가 바뀜
+    public void onRecurringChanged(Long userKey) {
+        todoMonthVersionRepository.bump(userKey, TodoVersions.ALL_MONTHS);
+        todoDayCache.evict(userKey);
+    }
+
+    public void onOccurrenceToggled(Long userKey, LocalDate date) {
+        todoMonthVersionRepository.bump(userKey, TodoVersions.monthKey(date));
+        todoDayCache.evict(userKey);
+    }
+
+    public void onUserDeleted(Long userKey) {
+        dailyTodoStatsRepository.deleteByUserKey(userKey);
+        userTodoCounterRepository.deleteByUserKey(userKey);
+        todoMonthVersionRepository.deleteByUserKey(userKey);
+        todoDayCache.evict(userKey);
+    }
+}
@@ -0,0 +1,78 @@
+package com.server.calendar.todo.service;
+
+import com.google.common.hash.Hashing;
+import com.server.calendar.todo.dto.MonthVersionRow;
+import com.server.calendar.todo.repository.TodoMonthVersionRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 하루/한 달 조회 응답의 ETag (사용자별 월 버전으로 만들므로 할 일을 읽지 않고 비교 가능)
+@Component
+@RequiredArgsConstructor
+public class TodoVersions {
+
+    // 특정 월이 아닌 사용자 전체에 영향을 주는 변경 (반복 할 일 규칙)
+    public static final int ALL_MONTHS = 0;
+
+    private final TodoMonthVersionRepository todoMonthVersionRepository;
+
+    public static int monthKey(LocalDate date) {
+        return monthKey(YearMonth.from(date));
+    }
+
+    public static int monthKey(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    // 월 버전 행을 한 번 읽어서 ETag 와 반복 할 일 규칙 유무를 함께 알려줌
+    public MonthVersion read(Long userKey, YearMonth yearMonth) {
+        MonthVersionRow row = todoMonthVersionRepository.findVersion(userKey, monthKey(yearMonth));
+        return new MonthVersion(userHash(userKey), yearMonth, row.getVersion(), row.getRecurringVersion() > 0);
+    }
+
+    // If-None-Match 는 여러 개(쉼표 구분)이거나 * 일 수 있음
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(eTag) || tag.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String userHash(Long userKey) {
+        return Hashing.murmur3_32_fixed().hashLong(userKey).toString();
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class MonthVersion {
+
+        private final String userHash;
+        private final YearMonth yearMonth;
+        private final long version;
+        // 반복 할 일 규칙을 만들거나 지운 적이 있는지 (규칙이 바뀌면 사용자 전체 버전이 올라감)
+        private final boolean recurringChanged;
+
+        // 버전만으로는 사용자가 구분되지 않으므로 사용자 키의 해시를 함께 넣음
+        // (한 기기에서 계정을 바꾸거나 공유 캐시를 거쳐도 다른 사용자의 응답과 일치하지 않도록)
+        public String dayETag(LocalDate date) {
+            return "\"d" + date + "-u" + userHash + "-v" + version + "\"";
+        }
+
+        public String monthETag() {
+            return "\"m" + yearMonth + "-u" + userHash + "-v" + version + "\"";
+        }
+
+        // false 면 반복 할 일 규칙이 없으므로 읽지 않아도 됨
+        public boolean mayHaveRecurring() {
+            return recurringChanged;
+        }
+    }
+}
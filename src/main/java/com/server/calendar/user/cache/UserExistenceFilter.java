@@ -0,0 +1,144 @@
+package com.server.calendar.user.cache;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.server.calendar.user.dto.UserIdentityRow;
+import com.server.calendar.user.repository.UserRepository;
+import com.server.calendar.util.datasource.ShardContext;
+import com.server.calendar.util.datasource.ShardDirectory;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 가입된 아이디/이메일에 대한 Bloom filter
+// "없음" 은 확정이므로 DB 를 조회하지 않고, "있을 수도 있음" 일 때만 DB 로 확인
+// 삭제는 반영할 수 없으므로 주기적으로 다시 만들고, 만들어지기 전에는 항상 "있을 수도 있음"
+@Slf4j
+@Component
+public class UserExistenceFilter {
+
+    private final UserRepository userRepository;
+    private final ShardDirectory shardDirectory;
+    private final TransactionTemplate readOnlyTransaction;
+    private final double falsePositiveRate;
+    private final int minimumCapacity;
+
+    private volatile Filters current;
+    // 다시 만드는 동안 들어온 가입도 새 필터에 넣기 위해 보관
+    private Filters building;
+
+    public UserExistenceFilter(UserRepository userRepository,
+                               ShardDirectory shardDirectory,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${user.exists-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${user.exists-filter.minimum-capacity:10000}") int minimumCapacity) {
+        this.userRepository = userRepository;
+        this.shardDirectory = shardDirectory;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+        this.minimumCapacity = minimumCapacity;
+    }
+
+    public boolean mightContainUserId(String userId) {
+        Filters filters = current;
+        return filters == null || filters.userIds.mightContain(normalize(userId));
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return filters == null || filters.emails.mightContain(normalize(email));
+    }
+
+    // 가입 직후 호출
+    public synchronized void add(String userId, String email) {
+        if (current != null) {
+            current.put(userId, email);
+        }
+        if (building != null) {
+            building.put(userId, email);
+        }
+    }
+
+    // 만들지 못해도 시작은 계속 (필터가 없으면 모든 확인이 DB 로 감)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("user existence filter not built, availability checks will query the database", e);
+        }
+    }
+
+    // 탈퇴한 아이디가 쌓이거나 예상 크기를 넘어 오탐률이 오르지 않도록 주기적으로 다시 만듦
+    @Scheduled(cron = "${user.exists-filter.rebuild-cron:-}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        // 지금 사용자 수의 두 배까지는 오탐률이 유지되도록
+        long users = 0;
+        for (int shard = 0; shard < shardDirectory.shardCount(); shard++) {
+            users += ShardContext.call(shard, userRepository::count);
+        }
+        long expected = Math.max(minimumCapacity, users * 2);
+        Filters filters = new Filters(expected, falsePositiveRate);
+        synchronized (this) {
+            building = filters;
+        }
+
+        try {
+            // 샤드마다 따로 읽음
+            for (int shard = 0; shard < shardDirectory.shardCount(); shard++) {
+                ShardContext.run(shard, () -> readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<UserIdentityRow> rows = userRepository.streamIdentities()) {
+                        rows.forEach(row -> filters.put(row.getUserId(), row.getEmail()));
+                    }
+                }));
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                building = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            current = filters;
+            building = null;
+        }
+        log.info("user existence filter rebuilt: capacity={}, took={}ms", expected, System.currentTimeMillis() - started);
+    }
+
+    // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 소문자로 맞춰서 넣고 찾음
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Filters {
+
+        private final BloomFilter<String> userIds;
+        private final BloomFilter<String> emails;
+
+        private Filters(long expectedInsertions, double falsePositiveRate) {
+            this.userIds = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+            this.emails = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+        }
+
+        // BloomFilter.put 은 동시에 호출해도 안전함
+        private void put(String userId, String email) {
+            if (userId != null) {
+                userIds.put(normalize(userId));
+            }
+            if (email != null) {
+                emails.put(normalize(email));
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.server.calendar.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.server.calendar.user.repository.UserRepository;
+import com.server.calendar.util.exception.EntityNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 로그인 아이디(userId) -> USERS.id 캐시 (크기/시간 기준으로 제거)
+@Component
+public class UserKeyCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> cache;
+
+    public UserKeyCache(UserRepository userRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${cache.user-key.maximum-size:10000}") long maximumSize,
+                        @Value("${cache.user-key.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        // cache.gets{cache=userKey,result=hit|miss}, cache.size, cache.evictions
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userKey");
+    }
+
+    // 캐시에 없을 때만 id 하나를 조회
+    public Long getUserKey(String userId) {
+        Long userKey = cache.get(userId, key -> userRepository.findIdByUserId(key).orElse(null));
+        if (userKey == null) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        return userKey;
+    }
+
+    public void evict(String userId) {
+        cache.invalidate(userId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -3,11 +3,14 @@ package com.server.calendar.user.controller;
 import com.server.calendar.user.dto.LoginDto;
 import com.server.calendar.user.dto.SignupDto;
 import com.server.calendar.user.service.UserService;
+import com.server.calendar.util.annotation.AuthUser;
+import com.server.calendar.util.annotation.StatementBudget;
+import com.server.calendar.util.jwt.JwtPrincipal;
 import com.server.calendar.util.response.CustomApiResponse;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Pattern;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -27,13 +31,14 @@ public class UserController {
 
     private final UserService userService;
 
-    // 회원가입
+    // 회원가입 (비밀번호 해시는 전용 실행기에서 처리하고 요청 스레드는 바로 반환)
     @PostMapping("/signup")
-    public ResponseEntity<CustomApiResponse<?>> createUser(@RequestBody SignupDto dto) {
+    public CompletableFuture<ResponseEntity<CustomApiResponse<?>>> createUser(@RequestBody SignupDto dto) {
         return userService.createUser(dto);
     }
 
     // 이메일 확인
+    @StatementBudget(1)
     @GetMapping("/email/{email}")
     public ResponseEntity<CustomApiResponse<?>> checkEmailDuplicated(
             @PathVariable @Email(message = "이메일 형식이 올바르지 않습니다.") @NotEmpty(message = "이메일은 비워둘 수 없습니다.") String email) {
@@ -41,6 +46,7 @@ public class UserController {
     }
 
     // 아이디 확인
+    @StatementBudget(1)
     @GetMapping("/userId/{userId}")
     public ResponseEntity<CustomApiResponse<?>> checkUserIdDuplicated(
             @PathVariable @Pattern(regexp = "^[a-z0-9]{7,}$", message = "아이디는 영소문자와 숫자로 구성된 7자 이상이어야 합니다.")
@@ -48,14 +54,23 @@ public class UserController {
         return userService.checkUserIdExists(userId);
     }
 
+    // 로그인 (비밀번호 검증은 전용 실행기에서 처리)
     @PostMapping("/signin")
-    public ResponseEntity<CustomApiResponse<?>> login(@RequestBody LoginDto dto) {
+    public CompletableFuture<ResponseEntity<CustomApiResponse<?>>> login(@RequestBody LoginDto dto) {
         return userService.login(dto);
     }
 
+    // async=true 면 202 와 함께 작업 id 를 돌려주고 백그라운드에서 삭제
     @DeleteMapping
-    public ResponseEntity<CustomApiResponse<?>> deleteUser(HttpServletRequest request) {
-        return userService.deleteUser(request);
+    public ResponseEntity<CustomApiResponse<?>> deleteUser(@RequestParam(defaultValue = "false") boolean async,
+                                                          @AuthUser JwtPrincipal principal) {
+        return userService.deleteUser(principal, async);
+    }
+
+    // 비동기 탈퇴 진행 상황
+    @GetMapping("/deletion/{jobId}")
+    public ResponseEntity<CustomApiResponse<?>> getDeleteProgress(@PathVariable String jobId, @AuthUser JwtPrincipal principal) {
+        return userService.getDeleteProgress(jobId, principal);
     }
 
 }
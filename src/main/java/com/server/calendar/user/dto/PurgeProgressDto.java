@@ -0,0 +1,17 @@
+package com.server.calendar.user.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class PurgeProgressDto {
+    private String jobId;
+    // RUNNING, DONE, FAILED
+    private String status;
+    // 지금까지 삭제한 할 일 개수
+    private long deletedTodos;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,7 @@
+package com.server.calendar.user.dto;
+
+// 아이디/이메일 존재 여부 필터를 만들 때 쓰는 projection
+public interface UserIdentityRow {
+    String getUserId();
+    String getEmail();
+}
@@ -1,12 +1,57 @@
 package com.server.calendar.user.repository;
 
 import com.server.calendar.doamin.User;
+import com.server.calendar.user.dto.UserIdentityRow;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // 로그인 조회 결과는 쿼리 캐시에 (users 테이블이 바뀌면 자동으로 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "userByLoginId")
+    })
     Optional<User> findByUserId(String userId);
+
     Optional<User> findByEmail(String email);
+
+    @Query("select u.id from User u where u.userId = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") String userId);
+
+    // 전체 사용자의 아이디/이메일을 한 번에 메모리에 올리지 않고 순서대로 읽음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u.userId as userId, u.email as email from User u")
+    Stream<UserIdentityRow> streamIdentities();
+
+    // 연관된 todoLists 컬렉션을 읽지 않고 사용자 행만 삭제
+    @Modifying
+    @Query("delete from User u where u.id = :userKey")
+    int deleteByUserKey(@Param("userKey") Long userKey);
+
+    // 샤딩 중에는 디렉터리가 발급한 id 로 저장 (모든 샤드에서 겹치지 않도록)
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Modifying
+    @Query(value = "insert into users (id, user_id, email, password) values (:userKey, :userId, :email, :password)", nativeQuery = true)
+    int insertWithKey(@Param("userKey") Long userKey, @Param("userId") String userId,
+                      @Param("email") String email, @Param("password") String password);
+
+    // 로그인 시 cost 가 낮은 기존 해시를 새 해시로 교체
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :userKey")
+    int updatePassword(@Param("userKey") Long userKey, @Param("password") String password);
 }
@@ -0,0 +1,96 @@
+package com.server.calendar.user.service;
+
+import com.server.calendar.util.exception.PasswordHashRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+// 비밀번호 해시/검증을 요청 스레드 대신 전용 실행기에서 수행
+// 스레드 수와 대기열이 가득 차면 기다리지 않고 바로 거절 (503)
+// 해시 실행기에서는 해시만 계산하고, 이어지는 작업(저장, 토큰 발급, 응답)은 일반 작업 실행기에서 실행
+@Slf4j
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor hashExecutor;
+    private final Executor continuationExecutor;
+    // 해시 한 번에 걸린 시간 (대기열에서 기다린 시간 제외)
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHasher(BCryptPasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Qualifier("applicationTaskExecutor") Executor continuationExecutor,
+                          @Value("${security.password.hash.threads:0}") int threads,
+                          @Value("${security.password.hash.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.continuationExecutor = continuationExecutor;
+        this.encodeTimer = Timer.builder("password.hash").tag("operation", "encode").publishPercentileHistogram().register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash").tag("operation", "matches").publishPercentileHistogram().register(meterRegistry);
+
+        // 0 이면 코어의 절반 - 해시가 몰려도 나머지 코어는 일반 요청이 쓸 수 있도록
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashExecutor = new ThreadPoolTaskExecutor();
+        hashExecutor.setCorePoolSize(poolSize);
+        hashExecutor.setMaxPoolSize(poolSize);
+        hashExecutor.setQueueCapacity(queueCapacity);
+        hashExecutor.setThreadNamePrefix("password-hash-");
+        hashExecutor.initialize();
+        // 대기열 길이, 실행 중인 작업 수, 거절 수
+        ExecutorServiceMetrics.monitor(meterRegistry, hashExecutor.getThreadPoolExecutor(), "password.hash");
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮으면 검증이 끝난 비밀번호로 다시 해시해 저장
+    // 응답을 기다리게 하지 않고, 실행기가 바쁘면 다음 로그인으로 미룸
+    public void rehashIfOutdated(String rawPassword, String encodedPassword, Consumer<String> store) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            CompletableFuture.supplyAsync(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)), hashExecutor)
+                    .thenAcceptAsync(store, continuationExecutor)
+                    .whenComplete((ignored, e) -> {
+                        if (e != null) {
+                            log.warn("password rehash failed", e);
+                        }
+                    });
+        } catch (TaskRejectedException e) {
+            log.debug("password rehash skipped: hash executor is saturated");
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            // 해시가 끝나면 바로 일반 실행기로 넘겨서, 호출한 쪽의 thenApply 가 해시 스레드를 붙잡지 않도록 함
+            return CompletableFuture.supplyAsync(task, hashExecutor).thenApplyAsync(result -> result, continuationExecutor);
+        } catch (TaskRejectedException e) {
+            throw new PasswordHashRejectedException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdown();
+    }
+}
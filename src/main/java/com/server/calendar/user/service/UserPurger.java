@@ -0,0 +1,194 @@
+package com.server.calendar.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.calendar.todo.repository.RecurringTodoCompletionRepository;
+import com.server.calendar.todo.repository.RecurringTodoRepository;
+import com.server.calendar.todo.repository.TodoRepository;
+import com.server.calendar.todo.service.TodoStatsUpdater;
+import com.server.calendar.user.cache.UserKeyCache;
+import com.server.calendar.user.dto.PurgeProgressDto;
+import com.server.calendar.user.repository.UserRepository;
+import com.server.calendar.util.datasource.ShardContext;
+import com.server.calendar.util.datasource.ShardDirectory;
+import com.server.calendar.util.exception.EntityNotFoundException;
+import com.server.calendar.util.exception.UserPurgeRejectedException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 회원 탈퇴 시 할 일을 id 범위 묶음 단위로, 묶음마다 짧은 트랜잭션으로 삭제
+@Slf4j
+@Component
+public class UserPurger implements DisposableBean {
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final UserKeyCache userKeyCache;
+    private final TodoStatsUpdater todoStatsUpdater;
+    private final RecurringTodoRepository recurringTodoRepository;
+    private final RecurringTodoCompletionRepository recurringTodoCompletionRepository;
+    private final ShardDirectory shardDirectory;
+    private final TransactionTemplate transactionTemplate;
+    // 비동기 삭제 전용 실행기 - 동시에 도는 삭제 작업 수를 제한
+    private final ThreadPoolTaskExecutor purgeExecutor;
+    private final int chunkSize;
+
+    // 비동기 삭제 진행 상황 (끝난 작업은 일정 시간 뒤 사라짐)
+    private final Cache<String, PurgeJob> jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public UserPurger(TodoRepository todoRepository,
+                      UserRepository userRepository,
+                      UserKeyCache userKeyCache,
+                      TodoStatsUpdater todoStatsUpdater,
+                      RecurringTodoRepository recurringTodoRepository,
+                      RecurringTodoCompletionRepository recurringTodoCompletionRepository,
+                      ShardDirectory shardDirectory,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${user.purge.chunk-size:1000}") int chunkSize,
+                      @Value("${user.purge.threads:2}") int threads,
+                      @Value("${user.purge.queue-capacity:100}") int queueCapacity) {
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.userKeyCache = userKeyCache;
+        this.todoStatsUpdater = todoStatsUpdater;
+        this.recurringTodoRepository = recurringTodoRepository;
+        this.recurringTodoCompletionRepository = recurringTodoCompletionRepository;
+        this.shardDirectory = shardDirectory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        this.purgeExecutor = new ThreadPoolTaskExecutor();
+        purgeExecutor.setCorePoolSize(threads);
+        purgeExecutor.setMaxPoolSize(threads);
+        purgeExecutor.setQueueCapacity(queueCapacity);
+        purgeExecutor.setThreadNamePrefix("user-purge-");
+        purgeExecutor.initialize();
+    }
+
+    // 호출한 스레드에서 끝까지 삭제
+    // (회원 경로(api/users/**)는 시큐리티 필터를 거치지 않으므로 샤드를 직접 지정)
+    public long purge(String userId) {
+        int shard = shardDirectory.shardOf(userId);
+        return ShardContext.call(shard, () -> purge(findUserKey(userId), userId, new AtomicLong()));
+    }
+
+    // 삭제를 실행기에 넘기고 진행 상황을 조회할 작업 id 반환
+    // 실행기가 가득 차서 거절되면 작업을 남기지 않고 503 (작업은 넘기는 데 성공한 뒤에만 등록)
+    public String purgeAsync(String userId) {
+        int shard = shardDirectory.shardOf(userId);
+        Long userKey = ShardContext.call(shard, () -> findUserKey(userId));
+        PurgeJob job = new PurgeJob(UUID.randomUUID().toString(), userId);
+
+        try {
+            purgeExecutor.execute(() -> {
+                try {
+                    ShardContext.run(shard, () -> purge(userKey, userId, job.deletedTodos));
+                    job.finish("DONE");
+                } catch (RuntimeException e) {
+                    log.error("user purge failed: userKey={}, jobId={}", userKey, job.jobId, e);
+                    job.finish("FAILED");
+                }
+            });
+        } catch (TaskRejectedException e) {
+            throw new UserPurgeRejectedException("탈퇴 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+        jobs.put(job.jobId, job);
+        return job.jobId;
+    }
+
+    // 본인이 시작한 작업만 조회 가능
+    public PurgeProgressDto getProgress(String jobId, String userId) {
+        PurgeJob job = jobs.getIfPresent(jobId);
+        if (job == null || !job.userId.equals(userId)) {
+            throw new EntityNotFoundException("탈퇴 작업을 찾을 수 없습니다.");
+        }
+        return job.toDto();
+    }
+
+    private long purge(Long userKey, String userId, AtomicLong deletedTodos) {
+        long afterId = 0L;
+        while (true) {
+            long fromExclusive = afterId;
+            // 묶음 하나 = 트랜잭션 하나 (행 잠금은 이 묶음 동안만 유지)
+            Long lastId = transactionTemplate.execute(status -> {
+                List<Long> ids = todoRepository.findIdsByUserKeyAfter(userKey, fromExclusive, PageRequest.ofSize(chunkSize));
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                Long toId = ids.get(ids.size() - 1);
+                deletedTodos.addAndGet(todoRepository.deleteByUserKeyAndIdBetween(userKey, ids.get(0), toId));
+                return toId;
+            });
+            if (lastId == null) {
+                break;
+            }
+            afterId = lastId;
+        }
+
+        // 마지막 트랜잭션: 그 사이 생긴 할 일, 통계, 카운터, 반복 할 일, 사용자 행 삭제
+        transactionTemplate.executeWithoutResult(status -> {
+            deletedTodos.addAndGet(todoRepository.deleteAllByUserKey(userKey));
+            todoStatsUpdater.onUserDeleted(userKey);
+            recurringTodoCompletionRepository.deleteByUserKey(userKey);
+            recurringTodoRepository.deleteByUserKey(userKey);
+            userRepository.deleteByUserKey(userKey);
+        });
+
+        shardDirectory.unregister(userId);
+        userKeyCache.evict(userId);
+        return deletedTodos.get();
+    }
+
+    @Override
+    public void destroy() {
+        purgeExecutor.shutdown();
+    }
+
+    private Long findUserKey(String userId) {
+        return userRepository.findIdByUserId(userId)
+                .orElseThrow(() -> new EntityNotFoundException("토큰으로 사용자를 찾을 수 없습니다."));
+    }
+
+    private static class PurgeJob {
+        private final String jobId;
+        private final String userId;
+        private final AtomicLong deletedTodos = new AtomicLong();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile String status = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+
+        private PurgeJob(String jobId, String userId) {
+            this.jobId = jobId;
+            this.userId = userId;
+        }
+
+        private void finish(String status) {
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private PurgeProgressDto toDto() {
+            return PurgeProgressDto.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .deletedTodos(deletedTodos.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -2,15 +2,17 @@ package com.server.calendar.user.service;
 
 import com.server.calendar.user.dto.LoginDto;
 import com.server.calendar.user.dto.SignupDto;
+import com.server.calendar.util.jwt.JwtPrincipal;
 import com.server.calendar.util.response.CustomApiResponse;
-import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 
 public interface UserService {
 
-    ResponseEntity<CustomApiResponse<?>> createUser(SignupDto dto);
+    CompletableFuture<ResponseEntity<CustomApiResponse<?>>> createUser(SignupDto dto);
     ResponseEntity<CustomApiResponse<?>> checkEmailExists(String email);
     ResponseEntity<CustomApiResponse<?>> checkUserIdExists(String userId);
-    ResponseEntity<CustomApiResponse<?>> login(LoginDto dto);
-    ResponseEntity<CustomApiResponse<?>> deleteUser(HttpServletRequest request);
+    CompletableFuture<ResponseEntity<CustomApiResponse<?>>> login(LoginDto dto);
+    ResponseEntity<CustomApiResponse<?>> deleteUser(JwtPrincipal principal, boolean async);
+    ResponseEntity<CustomApiResponse<?>> getDeleteProgress(String jobId, JwtPrincipal principal);
 }
@@ -1,79 +1,88 @@
 package com.server.calendar.user.service;
 
 import com.server.calendar.doamin.User;
-import com.server.calendar.todo.repository.TodoRepository;
+import com.server.calendar.user.cache.UserExistenceFilter;
 import com.server.calendar.user.dto.LoginDto;
+import com.server.calendar.user.dto.PurgeProgressDto;
 import com.server.calendar.user.dto.SignupDto;
 import com.server.calendar.user.repository.UserRepository;
+import com.server.calendar.util.datasource.ShardAssignment;
+import com.server.calendar.util.datasource.ShardContext;
+import com.server.calendar.util.datasource.ShardDirectory;
 import com.server.calendar.util.exception.EntityDuplicatedException;
 import com.server.calendar.util.exception.EntityNotFoundException;
 import com.server.calendar.util.exception.PasswordIncorrectException;
-import com.server.calendar.util.exception.TokenInvalidException;
+import com.server.calendar.util.jwt.JwtPrincipal;
 import com.server.calendar.util.jwt.JwtTokenProvider;
 import com.server.calendar.util.response.CustomApiResponse;
-import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.annotation.Timed;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+// 메서드마다 처리 시간 기록 (class/method/exception 태그)
+@Timed(value = "calendar.service", histogram = true)
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService{
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final UserRepository userRepository;
-    private final TodoRepository todoRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserPurger userPurger;
+    private final UserExistenceFilter userExistenceFilter;
+    private final ShardDirectory shardDirectory;
 
     @Override
-    public ResponseEntity<CustomApiResponse<?>> createUser(SignupDto dto) {
-
-        // 한 번 더 검증
-        checkEmailExists(dto.getEmail());
-        checkUserIdExists(dto.getUserId());
-
-        // 비밀번호 암호화
-        String encodedPw = passwordEncoder.encode(dto.getPassword());
-
-        // 멤버 생성
-        User user = SignupDto.builder()
-                .email(dto.getEmail())
-                .userId(dto.getUserId())
-                .password(encodedPw)
-                .build().toEntity();
-
-        // 저장
-        userRepository.save(user);
-
-        // 응답
-        CustomApiResponse<Object> resultBody = CustomApiResponse.createSuccess(HttpStatus.CREATED.value(), null, "회원가입에 성공하였습니다.");
-        return ResponseEntity.status(HttpStatus.CREATED).body(resultBody);
+    public CompletableFuture<ResponseEntity<CustomApiResponse<?>>> createUser(SignupDto dto) {
+
+        // 한 번 더 검증 (다른 서버에서 방금 가입했을 수도 있으므로 필터 없이 DB 로 확인)
+        assertEmailNotUsed(dto.getEmail());
+        assertUserIdNotUsed(dto.getUserId());
+
+        // 비밀번호 암호화 (해시 실행기가 가득 차 있으면 여기서 바로 503)
+        return passwordHasher.encode(dto.getPassword()).thenApply(encodedPw -> {
+
+            // 멤버 생성
+            User user = SignupDto.builder()
+                    .email(dto.getEmail())
+                    .userId(dto.getUserId())
+                    .password(encodedPw)
+                    .build().toEntity();
+
+            // 저장
+            saveUser(user);
+            userExistenceFilter.add(user.getUserId(), user.getEmail());
+
+            // 응답
+            CustomApiResponse<Object> resultBody = CustomApiResponse.createSuccess(HttpStatus.CREATED.value(), null, "회원가입에 성공하였습니다.");
+            return ResponseEntity.status(HttpStatus.CREATED).body(resultBody);
+        });
     }
 
+    @Transactional(readOnly = true)
     @Override
     public ResponseEntity<CustomApiResponse<?>> checkEmailExists(String email) {
-        Optional<User> byEmail = userRepository.findByEmail(email);
-
-        if (byEmail.isPresent()) {
-            throw new EntityDuplicatedException("이미 사용중인 이메일입니다.");
+        // 필터에 없으면 확실히 사용 가능 - 있을 수도 있을 때만 DB 조회
+        if (userExistenceFilter.mightContainEmail(email)) {
+            assertEmailNotUsed(email);
         }
 
         CustomApiResponse<?> response = CustomApiResponse.createSuccess(200, null, "사용 가능한 이메일입니다.");
         return ResponseEntity.ok(response);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public ResponseEntity<CustomApiResponse<?>> checkUserIdExists(String userId) {
 
-        Optional<User> byUserId = userRepository.findByUserId(userId);
-
-        if (byUserId.isPresent()) {
-            throw new EntityDuplicatedException("이미 사용중인 아이디입니다.");
+        if (userExistenceFilter.mightContainUserId(userId)) {
+            assertUserIdNotUsed(userId);
         }
 
         CustomApiResponse<?> response = CustomApiResponse.createSuccess(200, null, "사용 가능한 아이디입니다.");
@@ -81,59 +90,88 @@ public class UserServiceImpl implements UserService{
     }
 
     @Override
-    public ResponseEntity<CustomApiResponse<?>> login(LoginDto dto) {
+    public CompletableFuture<ResponseEntity<CustomApiResponse<?>>> login(LoginDto dto) {
 
-        // 아이디가 존재하는지 확인 -> 존재하지 않으면 error
-        User user = userRepository.findByUserId(dto.getUserId())
+        // 아이디가 존재하는지 확인 -> 존재하지 않으면 error (로그인 전이므로 샤드는 디렉터리로 찾음)
+        int shard = shardDirectory.shardOf(dto.getUserId());
+        User user = ShardContext.call(shard, () -> userRepository.findByUserId(dto.getUserId()))
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 회원입니다."));
 
-        if(!passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
-            throw new PasswordIncorrectException("비밀번호가 일치하지 않습니다.");
-        }
+        return passwordHasher.matches(dto.getPassword(), user.getPassword()).thenApply(matched -> {
+            if (!matched) {
+                throw new PasswordIncorrectException("비밀번호가 일치하지 않습니다.");
+            }
+
+            // 예전 cost 로 저장된 해시는 비밀번호를 알고 있는 지금 새 cost 로 교체
+            passwordHasher.rehashIfOutdated(dto.getPassword(), user.getPassword(),
+                    encodedPw -> ShardContext.run(shard, () -> userRepository.updatePassword(user.getId(), encodedPw)));
 
-        // 로그인에 성공했으므로 토큰 생성
-        String token = jwtTokenProvider.createToken(user.getUserId());
+            // 로그인에 성공했으므로 토큰 생성
+            String token = jwtTokenProvider.createToken(user.getUserId());
 
-        // 응답에 토큰을 포함하여 반환
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + token);
-        CustomApiResponse<?> response = CustomApiResponse.createSuccess(201, null, "로그인 성공");
-        return new ResponseEntity<>(response, headers, 201);
+            // 응답에 토큰을 포함하여 반환
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", "Bearer " + token);
+            CustomApiResponse<?> response = CustomApiResponse.createSuccess(201, null, "로그인 성공");
+            return new ResponseEntity<>(response, headers, 201);
+        });
     }
 
-    @Transactional
     @Override
-    public ResponseEntity<CustomApiResponse<?>> deleteUser(HttpServletRequest request) {
-        // 헤더에서 토큰 받아오기
-        String token = extractToken(request);
-
-        if (token == null || !jwtTokenProvider.validateToken(token)) {
-            throw new TokenInvalidException("토큰이 유효하지 않습니다.");
+    public ResponseEntity<CustomApiResponse<?>> deleteUser(JwtPrincipal principal, boolean async) {
+
+        if (async) {
+            // 백그라운드에서 묶음 단위로 삭제하고 진행 상황 조회 경로를 알려줌
+            String jobId = userPurger.purgeAsync(principal.getUserId());
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.LOCATION, "/api/users/deletion/" + jobId);
+            CustomApiResponse<?> response = CustomApiResponse.createSuccess(202, jobId, "회원 탈퇴가 진행 중입니다.");
+            return new ResponseEntity<>(response, headers, 202);
         }
 
-        // 토큰에서 userId 추출
-        String userId = jwtTokenProvider.getClaimsFromToken(token).getSubject();
+        // 할 일은 id 범위 묶음마다 짧은 트랜잭션으로 지우고, 마지막에 통계와 사용자 행 삭제
+        userPurger.purge(principal.getUserId());
 
-        // userId를 사용하여 User 엔티티 조회
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new EntityNotFoundException("토큰으로 사용자를 찾을 수 없습니다."));
+        CustomApiResponse<?> response = CustomApiResponse.createSuccess(200, null, "회원 탈퇴가 완료되었습니다.");
+        return ResponseEntity.ok(response);
+    }
 
-        // 사용자의 TodoList 삭제
-        todoRepository.deleteByUser(user);
+    @Override
+    public ResponseEntity<CustomApiResponse<?>> getDeleteProgress(String jobId, JwtPrincipal principal) {
+        PurgeProgressDto progress = userPurger.getProgress(jobId, principal.getUserId());
+        CustomApiResponse<PurgeProgressDto> response = CustomApiResponse.createSuccess(200, progress, "회원 탈퇴 진행 상황 조회 성공");
+        return ResponseEntity.ok(response);
+    }
 
-        // 사용자 삭제
-        userRepository.delete(user);
+    // 샤딩 중이면 디렉터리가 정한 샤드에 디렉터리가 발급한 id 로 저장
+    private void saveUser(User user) {
+        Optional<ShardAssignment> assignment = shardDirectory.register(user.getUserId(), user.getEmail());
+        if (assignment.isEmpty()) {
+            userRepository.save(user);
+            return;
+        }
 
-        CustomApiResponse<?> response = CustomApiResponse.createSuccess(200, null, "회원 탈퇴가 완료되었습니다.");
-        return ResponseEntity.ok(response);
+        ShardAssignment shard = assignment.get();
+        try {
+            ShardContext.run(shard.getShard(), () ->
+                    userRepository.insertWithKey(shard.getUserKey(), user.getUserId(), user.getEmail(), user.getPassword()));
+        } catch (RuntimeException e) {
+            shardDirectory.unregister(user.getUserId());
+            throw e;
+        }
+    }
+
+    // 샤딩 중이면 모든 샤드의 아이디/이메일이 있는 디렉터리로 확인
+    private void assertEmailNotUsed(String email) {
+        if (shardDirectory.containsEmail(email)) {
+            throw new EntityDuplicatedException("이미 사용중인 이메일입니다.");
+        }
     }
 
-    private String extractToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
+    private void assertUserIdNotUsed(String userId) {
+        if (shardDirectory.containsUserId(userId)) {
+            throw new EntityDuplicatedException("이미 사용중인 아이디입니다.");
         }
-        return null;
     }
 
 }
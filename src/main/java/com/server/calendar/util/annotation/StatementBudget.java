@@ -0,0 +1,14 @@
+package com.server.calendar.util.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 요청 하나가 실행해도 되는 최대 SQL 문 수 (사용자 키 캐시가 비어 있는 경우 포함)
+// 넘으면 운영에서는 표본 경고, 테스트(StatementBudgetTests)에서는 실패
+@Target({ElementType.METHOD}) // 컨트롤러 핸들러 메서드에만 사용
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+    int value();
+}
@@ -0,0 +1,61 @@
+package com.server.calendar.util.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.SharedCacheMode;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Hibernate 2차 캐시 (JCache - Caffeine 구현)
+// User 엔티티와 로그인 조회(findByUserId) 결과를 서버 메모리에 보관
+// Hibernate 로 쓴 변경은 바로 무효화되고, 다른 서버에서 바뀐 행은 expire-after-write 안에 반영됨
+@Configuration
+public class CacheConfig {
+
+    public static final String USER_REGION = "user";
+    public static final String USER_QUERY_REGION = "userByLoginId";
+
+    // 컨텍스트마다 따로 만듦 (같은 JVM 의 다른 컨텍스트와 캐시를 나눠 쓰지 않도록)
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${cache.l2.maximum-size:10000}") long maximumSize,
+                                              @Value("${cache.l2.expire-after-write:10m}") Duration expireAfterWrite) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : List.of(USER_REGION, USER_QUERY_REGION)) {
+            cacheManager.createCache(region, new CaffeineConfiguration<>()
+                    .setMaximumSize(OptionalLong.of(maximumSize))
+                    .setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()))
+                    .setStatisticsEnabled(true));
+        }
+        // 테이블별 마지막 변경 시각 - 빠지면 오래된 쿼리 결과가 최신으로 보이므로 크기/시간 제한 없음
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>().setStatisticsEnabled(true));
+        return cacheManager;
+    }
+
+    // @Cacheable 엔티티와 캐시 힌트가 있는 쿼리만 캐시
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.server.calendar.util.config;
+
+import com.server.calendar.util.metrics.HibernateSessionMetrics;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // @Timed 가 붙은 서비스 메서드 처리 시간 기록
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // 세션 이벤트로 요청 하나가 만든 SQL 문 / flush 수를 셈 (기록은 StatementBudgetInterceptor)
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSessionMetricsCustomizer() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, HibernateSessionMetrics.class.getName());
+    }
+}
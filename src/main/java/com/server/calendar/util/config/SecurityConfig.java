@@ -2,7 +2,12 @@ package com.server.calendar.util.config;
 
 import com.server.calendar.util.jwt.JwtTokenFilter;
 import com.server.calendar.util.jwt.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,20 +18,51 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
 
+    // strength 를 지정하지 않으면(0) 현재 장비에서 해시 한 번이 목표 시간 안에 끝나는 가장 큰 값으로 정함
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${security.password.bcrypt.strength:0}") int strength,
+                                                       @Value("${security.password.bcrypt.target-time:100ms}") Duration targetTime,
+                                                       @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+                                                       @Value("${security.password.bcrypt.max-strength:14}") int maxStrength) {
+        if (strength == 0) {
+            strength = calibrateStrength(targetTime, minStrength, maxStrength);
+        }
+        log.info("bcrypt strength: {}", strength);
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // 최소 strength 로 몇 번 해시해 걸린 시간을 재고, strength 가 1 오를 때마다 시간이 두 배라는 점으로 추정
+    private static int calibrateStrength(Duration targetTime, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration"); // JIT 워밍업
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long started = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - started);
+        }
+
+        int strength = minStrength;
+        long estimated = best;
+        while (strength < maxStrength && estimated * 2 <= targetTime.toNanos()) {
+            strength++;
+            estimated *= 2;
+        }
+        log.info("bcrypt calibration: {}ms at strength {}, target {}ms", best / 1_000_000, minStrength, targetTime.toMillis());
+        return strength;
     }
 
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer() {
-        return (web) -> web.ignoring().requestMatchers("api/users/**");
+        return (web) -> web.ignoring().requestMatchers("/api/users/**");
 //                "swagger-ui.html/**", "swagger-ui/**", "api-docs", "api-docs/**", "v3/api-docs/**", "v3/api-docs/swagger-config");
     }
 
@@ -38,12 +74,17 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .sessionManagement((session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)))
                 .authorizeHttpRequests((authorize) -> authorize
-                        .requestMatchers("api/users/**")
+                        .requestMatchers("/api/users/**")
 //                        .requestMatchers("api/member/login", "api/member/sign-up", "api/member/exists/**",
 //                                "swagger-ui.html/**", "swagger-ui/**", "api-docs", "api-docs/**", "v3/api-docs/**", "v3/api-docs/swagger-config")
                         .permitAll()
+                        // actuator 는 별도 관리 포트(management.server.port)로만 노출 - 외부에 열지 않는 포트
+                        // 포트가 열리더라도 health 만 익명으로, metrics/prometheus 는 관리자만
+                        .requestMatchers(EndpointRequest.to("health")).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().hasRole("USER"))
-                .addFilterBefore(new JwtTokenFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtTokenFilter(jwtTokenProvider, meterRegistry), UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 }
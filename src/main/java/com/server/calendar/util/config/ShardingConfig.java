@@ -0,0 +1,127 @@
+package com.server.calendar.util.config;
+
+import com.server.calendar.admin.service.ShardRebalancer;
+import com.server.calendar.util.datasource.JdbcShardDirectory;
+import com.server.calendar.util.datasource.ShardDataSources;
+import com.server.calendar.util.datasource.ShardMoveGuard;
+import com.server.calendar.util.datasource.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// datasource.shard.urls 가 있을 때만 사용자 단위로 여러 DB 에 나눠 저장 (없으면 스프링 부트 기본 DataSource 하나)
+// 0번 샤드에 사용자 -> 샤드 디렉터리(user_shards)가 있고, 샤딩 전 DB 를 0번으로 두면 기존 사용자는 그대로 0번에 남음
+// 샤드마다 커넥션 풀이 따로 있고 모든 샤드에 같은 Flyway 마이그레이션을 적용
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.shard.urls")
+public class ShardingConfig {
+
+    // 샤드마다 할 일 id(테이블 생성기) 범위를 나눠서 옮겨도 id 가 겹치지 않게 함
+    private static final long TODO_ID_RANGE = 1L << 40;
+
+    @Bean
+    public ShardDataSources shardDataSources(Environment environment,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${datasource.shard.urls}") String[] urls,
+                                             @Value("${datasource.shard.username:${spring.datasource.username:}}") String username,
+                                             @Value("${datasource.shard.password:${spring.datasource.password:}}") String password,
+                                             @Value("${datasource.replica.url:}") String replicaUrl) {
+        if (!replicaUrl.isEmpty()) {
+            throw new IllegalStateException("datasource.replica.url cannot be combined with datasource.shard.urls");
+        }
+        List<HikariDataSource> dataSources = new ArrayList<>();
+        for (int shard = 0; shard < urls.length; shard++) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(urls[shard].trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            // datasource.shard.hikari.* 는 모든 샤드 풀에 같게 적용
+            Binder.get(environment).bind("datasource.shard.hikari", Bindable.ofInstance(dataSource));
+            dataSource.setPoolName("shard-" + shard);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            dataSources.add(dataSource);
+        }
+        return new ShardDataSources(dataSources);
+    }
+
+    @Bean
+    public JdbcShardDirectory shardDirectory(ShardDataSources shardDataSources,
+                                             @Value("${datasource.shard.directory-cache:30s}") Duration cacheTtl) {
+        return new JdbcShardDirectory(new JdbcTemplate(shardDataSources.get(0)), shardDataSources.size(), cacheTtl);
+    }
+
+    @Bean
+    public ShardMoveGuard shardMoveGuard(JdbcShardDirectory shardDirectory) {
+        return new ShardMoveGuard(shardDirectory);
+    }
+
+    // 기본값은 디렉터리 캐시 시간과 같게 (모든 서버가 "옮기는 중" 을 보게 된 뒤에 복사)
+    @Bean
+    public ShardRebalancer shardRebalancer(ShardDataSources shardDataSources,
+                                           JdbcShardDirectory shardDirectory,
+                                           @Value("${datasource.shard.move-settle-time:${datasource.shard.directory-cache:30s}}") Duration settleTime) {
+        return new ShardRebalancer(shardDataSources, shardDirectory, settleTime);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources, JdbcShardDirectory shardDirectory) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            targets.put(shard, shardDataSources.get(shard));
+        }
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(shardDirectory);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(shardDataSources.get(0));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // spring.flyway.* 설정 그대로 샤드마다 마이그레이션한 뒤 기존 사용자를 디렉터리에 채움
+    @Bean
+    public FlywayMigrationStrategy shardFlywayMigrationStrategy(ShardDataSources shardDataSources,
+                                                                JdbcShardDirectory shardDirectory) {
+        return flyway -> {
+            for (int shard = 0; shard < shardDataSources.size(); shard++) {
+                Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(shardDataSources.get(shard))
+                        .load()
+                        .migrate();
+                if (shard > 0) {
+                    long start = shard * TODO_ID_RANGE;
+                    new JdbcTemplate(shardDataSources.get(shard)).update(
+                            "update id_generators set next_val = ? where sequence_name = 'todo_lists' and next_val < ?",
+                            start + 51, start);
+                }
+            }
+            int backfilled = shardDirectory.backfill();
+            if (backfilled > 0) {
+                log.info("shard directory backfilled with {} existing users on shard 0", backfilled);
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.server.calendar.util.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 가상 스레드 모드에서 캐리어 스레드에 고정(pinning)된 채로 오래 대기하는 코드를 JFR 이벤트로 감지해서 경고
+// (synchronized 블록 안의 JDBC I/O 등 - 고정되면 그 동안 캐리어 스레드 하나가 통째로 묶임)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final int MAX_FRAMES = 8;
+
+    private final Duration threshold;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(@Value("${threads.virtual.pinning-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", event -> {
+            pinnedCount.incrementAndGet();
+            log.warn("virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), topFrames(event.getStackTrace()));
+        });
+        recordingStream.startAsync();
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        recordingStream.close();
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "(no stack trace)";
+        }
+        StringBuilder frames = new StringBuilder();
+        int count = 0;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (count++ == MAX_FRAMES) {
+                break;
+            }
+            frames.append("\n\tat ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber());
+        }
+        return frames.toString();
+    }
+}
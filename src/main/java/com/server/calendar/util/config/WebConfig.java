@@ -0,0 +1,37 @@
+package com.server.calendar.util.config;
+
+import com.server.calendar.util.datasource.ReadYourWritesTracker;
+import com.server.calendar.util.datasource.ShardMoveGuard;
+import com.server.calendar.util.metrics.StatementBudgetInterceptor;
+import com.server.calendar.util.resolver.AuthUserArgumentResolver;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AuthUserArgumentResolver authUserArgumentResolver;
+    private final StatementBudgetInterceptor statementBudgetInterceptor;
+    // 읽기/쓰기 분리를 켠 경우에만 존재
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+    // 샤딩을 켠 경우에만 존재
+    private final ObjectProvider<ShardMoveGuard> shardMoveGuard;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(authUserArgumentResolver);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementBudgetInterceptor);
+        readYourWritesTracker.ifAvailable(registry::addInterceptor);
+        shardMoveGuard.ifAvailable(registry::addInterceptor);
+    }
+}
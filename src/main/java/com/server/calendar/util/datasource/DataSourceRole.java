@@ -0,0 +1,5 @@
+package com.server.calendar.util.datasource;
+
+public enum DataSourceRole {
+    PRIMARY, REPLICA
+}
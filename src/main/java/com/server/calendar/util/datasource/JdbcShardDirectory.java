@@ -0,0 +1,157 @@
+package com.server.calendar.util.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.Hashing;
+import com.server.calendar.util.exception.EntityDuplicatedException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+// 0번 샤드의 user_shards 테이블에 사용자 -> 샤드를 기록
+// 새 사용자는 아이디 해시로 샤드를 정하고, 한 번 정해진 샤드는 옮기기 전까지 바뀌지 않음 (샤드를 늘려도 기존 사용자는 그대로)
+public class JdbcShardDirectory implements ShardDirectory {
+
+    private final JdbcTemplate directory;
+    private final int shardCount;
+    // 요청마다 디렉터리를 조회하지 않도록 보관 (다른 서버에서 옮긴 사용자는 이 시간 안에 반영됨)
+    private final Cache<String, Entry> entries;
+
+    public JdbcShardDirectory(JdbcTemplate directory, int shardCount, Duration cacheTtl) {
+        this.directory = directory;
+        this.shardCount = shardCount;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    @Override
+    public int shardCount() {
+        return shardCount;
+    }
+
+    @Override
+    public int shardOf(String userId) {
+        Entry entry = find(userId);
+        return entry != null ? entry.shard : 0;
+    }
+
+    public boolean isMoving(String userId) {
+        Entry entry = find(userId);
+        return entry != null && entry.moving;
+    }
+
+    public Entry find(String userId) {
+        return entries.get(userId, this::load);
+    }
+
+    @Override
+    public boolean containsUserId(String userId) {
+        return exists("select count(*) from user_shards where user_id = ?", userId);
+    }
+
+    @Override
+    public boolean containsEmail(String email) {
+        return exists("select count(*) from user_shards where email = ?", email);
+    }
+
+    // 아이디/이메일 유니크 제약이 모든 샤드에 걸친 중복을 막음
+    @Override
+    public Optional<ShardAssignment> register(String userId, String email) {
+        int shard = placement(userId);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            directory.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "insert into user_shards (user_id, email, shard, moving) values (?, ?, ?, false)",
+                        Statement.RETURN_GENERATED_KEYS);
+                statement.setString(1, userId);
+                statement.setString(2, email);
+                statement.setInt(3, shard);
+                return statement;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            throw new EntityDuplicatedException(containsEmail(email) ? "이미 사용중인 이메일입니다." : "이미 사용중인 아이디입니다.");
+        }
+        entries.invalidate(userId);
+        return Optional.of(new ShardAssignment(shard, keyHolder.getKey().longValue()));
+    }
+
+    @Override
+    public void unregister(String userId) {
+        directory.update("delete from user_shards where user_id = ?", userId);
+        entries.invalidate(userId);
+    }
+
+    // 옮기는 동안에는 요청을 받지 않음 (ShardMoveGuard)
+    public void setMoving(String userId, boolean moving) {
+        directory.update("update user_shards set moving = ? where user_id = ?", moving, userId);
+        entries.invalidate(userId);
+    }
+
+    public void moveTo(String userId, int shard) {
+        directory.update("update user_shards set shard = ?, moving = false where user_id = ?", shard, userId);
+        entries.invalidate(userId);
+    }
+
+    public long[] countByShard() {
+        long[] counts = new long[shardCount];
+        directory.query("select shard, count(*) from user_shards group by shard", row -> {
+            int shard = row.getInt(1);
+            if (shard < shardCount) {
+                counts[shard] = row.getLong(2);
+            }
+        });
+        return counts;
+    }
+
+    // 최근에 가입한 사용자부터 (대체로 데이터가 적어 옮기는 비용이 작음)
+    public List<String> recentUserIds(int shard, int limit) {
+        return directory.queryForList(
+                "select user_id from user_shards where shard = ? and moving = false order by user_key desc limit ?",
+                String.class, shard, limit);
+    }
+
+    // 샤딩 전부터 있던 사용자(0번 샤드의 users)를 디렉터리에 채움 - 시작할 때마다 실행해도 됨
+    public int backfill() {
+        return directory.update("insert into user_shards (user_key, user_id, email, shard, moving) "
+                + "select u.id, u.user_id, u.email, 0, false from users u "
+                + "where not exists (select 1 from user_shards s where s.user_id = u.user_id)");
+    }
+
+    // 샤드 수가 같으면 항상 같은 샤드
+    int placement(String userId) {
+        int hash = Hashing.murmur3_32_fixed().hashString(userId.toLowerCase(Locale.ROOT), StandardCharsets.UTF_8).asInt();
+        return Math.floorMod(hash, shardCount);
+    }
+
+    private Entry load(String userId) {
+        List<Entry> found = directory.query("select user_key, shard, moving from user_shards where user_id = ?",
+                (row, rowNum) -> new Entry(row.getLong(1), row.getInt(2), row.getBoolean(3)), userId);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    private boolean exists(String sql, String value) {
+        Integer count = directory.queryForObject(sql, Integer.class, value);
+        return count != null && count > 0;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final long userKey;
+        private final int shard;
+        private final boolean moving;
+    }
+}
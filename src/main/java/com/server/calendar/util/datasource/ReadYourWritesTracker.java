@@ -0,0 +1,69 @@
+package com.server.calendar.util.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.server.calendar.util.jwt.JwtPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 변경 요청(GET/HEAD/OPTIONS 외)을 보낸 사용자를 잠깐 동안 주 DB 에 고정 (read-your-writes)
+// 핸들러가 실행되기 전에 고정하므로, 커밋되고 응답을 받은 클라이언트의 다음 조회는 항상 주 DB 로 감
+// 고정 정보는 서버 메모리에만 있음 - 서버가 여러 대면 같은 사용자의 요청이 같은 서버로 가도록(sticky) 라우팅해야 함
+public class ReadYourWritesTracker implements HandlerInterceptor {
+
+    private final boolean enabled;
+    // 사용자 아이디 -> 마지막 변경 요청 (window 가 지나면 사라짐)
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.enabled = !window.isZero();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(enabled ? window : Duration.ofMillis(1))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public boolean isPinnedToPrimary() {
+        String userId = currentUserId();
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        pinIfWrite(request);
+        return true;
+    }
+
+    // 변경이 끝난 시점부터 다시 window 만큼 유지 (처리가 오래 걸린 요청도 복제 지연을 기다릴 수 있도록)
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        pinIfWrite(request);
+    }
+
+    private void pinIfWrite(HttpServletRequest request) {
+        if (!enabled) {
+            return;
+        }
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS) {
+            return;
+        }
+        String userId = currentUserId();
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
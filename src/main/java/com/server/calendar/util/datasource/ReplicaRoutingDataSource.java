@@ -0,0 +1,27 @@
+package com.server.calendar.util.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 읽기 전용 트랜잭션은 복제본으로, 나머지(쓰기, 트랜잭션 밖)는 주 DB 로
+// 트랜잭션 속성이 정해진 뒤에 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRole.PRIMARY;
+        }
+        // 방금 쓴 사용자는 복제 지연 동안 자기 변경을 못 보는 일이 없도록 주 DB 에서 읽음
+        if (readYourWritesTracker.isPinnedToPrimary()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+}
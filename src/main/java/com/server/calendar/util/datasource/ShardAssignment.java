@@ -0,0 +1,12 @@
+package com.server.calendar.util.datasource;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 가입할 때 디렉터리가 정한 샤드와 USERS.id (모든 샤드에서 겹치지 않음)
+@Getter
+@RequiredArgsConstructor
+public class ShardAssignment {
+    private final int shard;
+    private final long userKey;
+}
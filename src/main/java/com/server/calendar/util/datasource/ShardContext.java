@@ -0,0 +1,38 @@
+package com.server.calendar.util.datasource;
+
+import java.util.function.Supplier;
+
+// 로그인한 사용자가 없는 곳(가입, 로그인, 백그라운드 작업, 관리자 작업)에서 사용할 샤드를 직접 지정
+// 트랜잭션이 시작되기 전에 지정해야 함 (트랜잭션 중에는 이미 잡은 커넥션을 계속 사용)
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(int shard, Supplier<T> work) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(int shard, Runnable work) {
+        call(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
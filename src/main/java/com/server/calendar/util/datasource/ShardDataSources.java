@@ -0,0 +1,32 @@
+package com.server.calendar.util.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import org.springframework.beans.factory.DisposableBean;
+
+// 샤드마다 하나씩 있는 커넥션 풀 (순서 = 샤드 번호, 0번에 디렉터리)
+public class ShardDataSources implements DisposableBean {
+
+    private final List<HikariDataSource> dataSources;
+
+    public ShardDataSources(List<HikariDataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+    }
+
+    public HikariDataSource get(int shard) {
+        return dataSources.get(shard);
+    }
+
+    public int size() {
+        return dataSources.size();
+    }
+
+    public List<HikariDataSource> all() {
+        return dataSources;
+    }
+
+    @Override
+    public void destroy() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
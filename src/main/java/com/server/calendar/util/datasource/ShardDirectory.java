@@ -0,0 +1,22 @@
+package com.server.calendar.util.datasource;
+
+import java.util.Optional;
+
+// 사용자(로그인 아이디) -> 샤드
+// 샤딩을 켜지 않으면 샤드는 0번 하나이고 아이디/이메일 중복은 users 테이블로 확인
+public interface ShardDirectory {
+
+    int shardCount();
+
+    // 디렉터리에 없는 사용자는 0번 샤드
+    int shardOf(String userId);
+
+    boolean containsUserId(String userId);
+
+    boolean containsEmail(String email);
+
+    // 새 사용자의 샤드와 USERS.id 를 정함 (샤드가 하나면 비어 있고, users 테이블이 id 를 발급)
+    Optional<ShardAssignment> register(String userId, String email);
+
+    void unregister(String userId);
+}
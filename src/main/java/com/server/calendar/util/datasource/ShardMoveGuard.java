@@ -0,0 +1,27 @@
+package com.server.calendar.util.datasource;
+
+import com.server.calendar.util.exception.UserShardMovingException;
+import com.server.calendar.util.jwt.JwtPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 다른 샤드로 옮기는 중인 사용자의 요청은 옮기기가 끝날 때까지 503 (복사 중에 쓴 내용이 사라지지 않도록)
+@RequiredArgsConstructor
+public class ShardMoveGuard implements HandlerInterceptor {
+
+    private final JdbcShardDirectory shardDirectory;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal
+                && shardDirectory.isMoving(principal.getUserId())) {
+            throw new UserShardMovingException("데이터를 옮기는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        return true;
+    }
+}
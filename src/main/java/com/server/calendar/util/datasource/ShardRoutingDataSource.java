@@ -0,0 +1,30 @@
+package com.server.calendar.util.datasource;
+
+import com.server.calendar.util.jwt.JwtPrincipal;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// 직접 지정한 샤드 -> 로그인한 사용자의 샤드 -> 0번 샤드(디렉터리가 있는 DB) 순서로 고름
+// 트랜잭션이 시작된 뒤에 커넥션을 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ShardDirectory shardDirectory;
+
+    public ShardRoutingDataSource(ShardDirectory shardDirectory) {
+        this.shardDirectory = shardDirectory;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        if (shard != null) {
+            return shard;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return shardDirectory.shardOf(principal.getUserId());
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.server.calendar.util.datasource;
+
+import com.server.calendar.user.repository.UserRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+// datasource.shard.urls 가 없을 때 - DB 하나
+@Component
+@ConditionalOnExpression("'${datasource.shard.urls:}'.isEmpty()")
+@RequiredArgsConstructor
+public class SingleShardDirectory implements ShardDirectory {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public int shardCount() {
+        return 1;
+    }
+
+    @Override
+    public int shardOf(String userId) {
+        return 0;
+    }
+
+    @Override
+    public boolean containsUserId(String userId) {
+        return userRepository.findByUserId(userId).isPresent();
+    }
+
+    @Override
+    public boolean containsEmail(String email) {
+        return userRepository.findByEmail(email).isPresent();
+    }
+
+    @Override
+    public Optional<ShardAssignment> register(String userId, String email) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void unregister(String userId) {
+    }
+}
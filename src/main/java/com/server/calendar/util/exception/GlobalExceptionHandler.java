@@ -5,6 +5,7 @@ import jakarta.validation.ConstraintViolationException;
 import java.util.stream.Collectors;
 import com.server.calendar.util.response.CustomApiResponse;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -79,5 +80,31 @@ public class GlobalExceptionHandler {
                 .body(CustomApiResponse.createFailWithoutData(HttpStatus.UNAUTHORIZED.value(), e.getMessage()));
     }
 
+    // 비밀번호 해시 실행기가 가득 찬 경우 - 잠시 후 재시도하도록 안내
+    @ExceptionHandler(PasswordHashRejectedException.class)
+    public ResponseEntity<CustomApiResponse<?>> handlePasswordHashRejectedException(PasswordHashRejectedException e) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(CustomApiResponse.createFailWithoutData(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage()));
+    }
+
+    // 회원 탈퇴 실행기가 가득 찬 경우 - 잠시 후 재시도하도록 안내
+    @ExceptionHandler(UserPurgeRejectedException.class)
+    public ResponseEntity<CustomApiResponse<?>> handleUserPurgeRejectedException(UserPurgeRejectedException e) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(CustomApiResponse.createFailWithoutData(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage()));
+    }
+
+    // 사용자 데이터를 다른 샤드로 옮기는 중 - 잠시 후 재시도하도록 안내
+    @ExceptionHandler(UserShardMovingException.class)
+    public ResponseEntity<CustomApiResponse<?>> handleUserShardMovingException(UserShardMovingException e) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(CustomApiResponse.createFailWithoutData(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage()));
+    }
 
 }
@@ -0,0 +1,7 @@
+package com.server.calendar.util.exception;
+
+public class PasswordHashRejectedException extends RuntimeException{
+    public PasswordHashRejectedException(String message) {
+        super(message);
+    }
+}
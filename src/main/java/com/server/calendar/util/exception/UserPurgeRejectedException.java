@@ -0,0 +1,7 @@
+package com.server.calendar.util.exception;
+
+public class UserPurgeRejectedException extends RuntimeException{
+    public UserPurgeRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.server.calendar.util.exception;
+
+public class UserShardMovingException extends RuntimeException{
+    public UserShardMovingException(String message) {
+        super(message);
+    }
+}
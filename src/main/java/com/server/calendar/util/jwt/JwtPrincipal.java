@@ -0,0 +1,16 @@
+package com.server.calendar.util.jwt;
+
+import java.util.Date;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 검증이 끝난 토큰에서 꺼낸 인증 정보 (요청당 한 번만 생성)
+@Getter
+@RequiredArgsConstructor
+public class JwtPrincipal {
+
+    private final String userId;
+    private final String roles;
+    private final Date expiresAt;
+
+}
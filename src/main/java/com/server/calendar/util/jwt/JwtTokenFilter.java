@@ -1,7 +1,7 @@
 package com.server.calendar.util.jwt;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -9,18 +9,29 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import com.server.calendar.util.response.CustomApiResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.GenericFilterBean;
 
-@RequiredArgsConstructor
 public class JwtTokenFilter extends GenericFilterBean {
 
     private final JwtTokenProvider jwtTokenProvider;
+    // 토큰 검증 시간 (결과별)
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    public JwtTokenFilter(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.validTimer = Timer.builder("jwt.verify").tag("outcome", "valid").publishPercentileHistogram().register(meterRegistry);
+        this.invalidTimer = Timer.builder("jwt.verify").tag("outcome", "invalid").publishPercentileHistogram().register(meterRegistry);
+    }
 
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
@@ -28,19 +39,25 @@ public class JwtTokenFilter extends GenericFilterBean {
         HttpServletRequest request = (HttpServletRequest) servletRequest;
         String token = extractToken(request);
 
-        if (token != null && !jwtTokenProvider.validateToken(token)) {
-            unauthorizedResponse(servletResponse, "존재하지 않는 토큰입니다.");
-            return;
-        }
-
+        // 서명 검증과 Claims 추출을 한 번에 처리
         if (token != null) {
-            setSecurityContext(token);
+            JwtPrincipal principal;
+            long started = System.nanoTime();
+            try {
+                principal = jwtTokenProvider.parseToken(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                invalidTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                unauthorizedResponse(servletResponse, "존재하지 않는 토큰입니다.");
+                return;
+            }
+            validTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            setSecurityContext(principal);
         }
 
         filterChain.doFilter(servletRequest, servletResponse);
     }
 
-    private String extractToken(HttpServletRequest request) {
+    public static String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
@@ -48,13 +65,14 @@ public class JwtTokenFilter extends GenericFilterBean {
         return null;
     }
 
-    private void setSecurityContext(String token) {
-        Claims claims = jwtTokenProvider.getClaimsFromToken(token);
-        String rolesStr = claims.get("roles", String.class);
-        SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + rolesStr);
+    // roles 는 쉼표로 구분 (예: "USER,ADMIN")
+    private void setSecurityContext(JwtPrincipal principal) {
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(principal.getRoles().split(","))
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.trim()))
+                .toList();
 
         UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                claims.getSubject(), null, Collections.singletonList(authority));
+                principal, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(auth);
     }
 
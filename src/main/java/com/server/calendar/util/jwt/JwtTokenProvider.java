@@ -1,26 +1,45 @@
 package com.server.calendar.util.jwt;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import java.security.Key;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 public class JwtTokenProvider {
 
-    @Value("${jwt.secretKey}")
-    private String secretKey;
+    private final SignatureAlgorithm signatureAlgorithm;
 
-    @Value("${jwt.algorithm}")
-    private String algorithm;
+    // 서명 키는 시작할 때 한 번만 디코딩
+    private final Key signingKey;
+
+    // 로그인하면 ADMIN 권한도 받는 아이디 (security.admin.user-ids, 쉼표로 구분)
+    private final Set<String> adminUserIds;
+
+    public JwtTokenProvider(@Value("${jwt.secretKey}") String secretKey,
+                            @Value("${jwt.algorithm}") String algorithm,
+                            @Value("${security.admin.user-ids:}") String adminUserIds) {
+        this.signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+        this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(secretKey), signatureAlgorithm.getJcaName());
+        this.adminUserIds = Arrays.stream(adminUserIds.split(","))
+                .map(String::trim)
+                .filter(userId -> !userId.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
 
     // 토큰 생성
     public String createToken(String username) {
         Claims claims = Jwts.claims().setSubject(username);
-        claims.put("roles", "USER");
+        claims.put("roles", adminUserIds.contains(username) ? "USER,ADMIN" : "USER");
         Date now = new Date();
         Date validity = new Date(now.getTime() + 7 * 24 * 60 * 60 * 1000L); // 7일 유효
 
@@ -28,24 +47,23 @@ public class JwtTokenProvider {
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(SignatureAlgorithm.forName(algorithm), secretKey)
+                .signWith(signatureAlgorithm, signingKey)
                 .compact();
     }
 
-    // 토큰 검증
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
-            return true;
-        } catch (JwtException e) {
-            System.out.println("Jwt Exception: " + e.getLocalizedMessage());
-            return false;
-        }
-    }
-
     // 토큰에서 Claims 객체 추출
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+        return Jwts.parser().setSigningKey(signingKey).parseClaimsJws(token).getBody();
+    }
+
+    // 토큰을 한 번 검증하고 인증 정보로 변환 (유효하지 않거나 roles 가 없으면 JwtException -> 401)
+    public JwtPrincipal parseToken(String token) {
+        Claims claims = getClaimsFromToken(token);
+        String roles = claims.get("roles", String.class);
+        if (roles == null || roles.isBlank()) {
+            throw new MalformedJwtException("roles claim is missing");
+        }
+        return new JwtPrincipal(claims.getSubject(), roles, claims.getExpiration());
     }
 
 }
@@ -0,0 +1,24 @@
+package com.server.calendar.util.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+// 세션에서 실행한 SQL 문 수와 flush 수를 현재 요청의 카운터(RequestStatementCounter)에 더함
+// open-in-view 를 끈 상태에서는 트랜잭션마다 세션이 따로 열리므로, 세션 단위가 아니라 요청이 끝날 때 한 번에 기록
+// (StatementBudgetInterceptor 의 sql.request.statements / sql.request.flushes)
+public class HibernateSessionMetrics extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestStatementCounter.incrementStatements();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        RequestStatementCounter.incrementStatements();
+    }
+
+    @Override
+    public void flushStart() {
+        RequestStatementCounter.incrementFlushes();
+    }
+}
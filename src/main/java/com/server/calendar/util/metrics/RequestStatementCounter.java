@@ -0,0 +1,46 @@
+package com.server.calendar.util.metrics;
+
+import lombok.Getter;
+
+// 현재 요청 스레드에서 실행한 SQL 문 수와 flush 수
+// open-in-view 를 끈 상태라 요청 하나가 트랜잭션(= 세션) 여러 개를 열 수 있으므로 세션이 아니라 요청 단위로 모음
+// 하이버네이트 세션 이벤트(HibernateSessionMetrics)에서 올리고, StatementBudgetInterceptor 가 시작/종료
+public final class RequestStatementCounter {
+
+    private static final ThreadLocal<Counts> COUNTS = new ThreadLocal<>();
+
+    private RequestStatementCounter() {
+    }
+
+    // 비동기 처리로 다시 디스패치된 요청은 앞 디스패치에서 센 값(previous)부터 이어서 셈
+    static void start(Counts previous) {
+        COUNTS.set(previous != null ? previous : new Counts());
+    }
+
+    // 요청 밖(스케줄러, 비동기 작업)에서는 세지 않음
+    static void incrementStatements() {
+        Counts counts = COUNTS.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void incrementFlushes() {
+        Counts counts = COUNTS.get();
+        if (counts != null) {
+            counts.flushes++;
+        }
+    }
+
+    static Counts stop() {
+        Counts counts = COUNTS.get();
+        COUNTS.remove();
+        return counts != null ? counts : new Counts();
+    }
+
+    @Getter
+    public static final class Counts {
+        private int statements;
+        private int flushes;
+    }
+}
@@ -0,0 +1,88 @@
+package com.server.calendar.util.metrics;
+
+import com.server.calendar.util.annotation.StatementBudget;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 요청마다 실행한 SQL 문 / flush 수를 기록하고, @StatementBudget 이 붙은 핸들러는 예산을 넘으면 기록
+@Slf4j
+@Component
+public class StatementBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    // 테스트에서 요청이 끝난 뒤 확인할 수 있도록 요청 속성에 남김
+    public static final String STATEMENT_COUNT_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".statementCount";
+    // 비동기 처리 전에 센 값 (다시 디스패치되면 이어서 셈)
+    private static final String PARTIAL_COUNTS_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".partialCounts";
+
+    private final MeterRegistry meterRegistry;
+    private final double warnSampleRate;
+
+    public StatementBudgetInterceptor(MeterRegistry meterRegistry,
+                                      @Value("${sql.statement-budget.warn-sample-rate:0.01}") double warnSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.warnSampleRate = warnSampleRate;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            RequestStatementCounter.start((RequestStatementCounter.Counts) request.getAttribute(PARTIAL_COUNTS_ATTRIBUTE));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod)) {
+            return;
+        }
+        RequestStatementCounter.Counts counts = RequestStatementCounter.stop();
+        int statements = counts.getStatements();
+        request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements);
+
+        // 태그는 매핑된 URL 패턴만 사용 (경로 변수 값, 사용자 정보는 넣지 않음)
+        String uri = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        DistributionSummary.builder("sql.request.statements")
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+        DistributionSummary.builder("sql.request.flushes")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(counts.getFlushes());
+
+        StatementBudget budget = budgetOf(handler);
+        if (budget == null || statements <= budget.value()) {
+            return;
+        }
+        meterRegistry.counter("sql.statement.budget.exceeded", "uri", uri).increment();
+        // 경고 로그는 표본만 남김 (초과가 계속되는 경우 로그가 넘치지 않도록)
+        if (ThreadLocalRandom.current().nextDouble() < warnSampleRate) {
+            log.warn("statement budget exceeded: {} {} ran {} statements (budget {})",
+                    request.getMethod(), uri, statements, budget.value());
+        }
+    }
+
+    // 비동기 처리가 시작되면 afterCompletion 대신 호출됨 - 세던 값은 요청에 맡겨 두고 다시 디스패치될 때 이어서 셈
+    // (그 사이 실행기 스레드에서 실행한 SQL 은 세지 않음)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(PARTIAL_COUNTS_ATTRIBUTE, RequestStatementCounter.stop());
+        }
+    }
+
+    private static StatementBudget budgetOf(Object handler) {
+        return handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethodAnnotation(StatementBudget.class) : null;
+    }
+}
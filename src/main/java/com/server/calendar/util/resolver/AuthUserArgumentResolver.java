@@ -0,0 +1,54 @@
+package com.server.calendar.util.resolver;
+
+import com.server.calendar.util.annotation.AuthUser;
+import com.server.calendar.util.exception.TokenInvalidException;
+import com.server.calendar.util.jwt.JwtPrincipal;
+import com.server.calendar.util.jwt.JwtTokenFilter;
+import com.server.calendar.util.jwt.JwtTokenProvider;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(AuthUser.class)
+                && JwtPrincipal.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+
+        // 필터에서 이미 검증한 인증 정보가 있으면 그대로 사용
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal;
+        }
+
+        // 시큐리티 필터를 거치지 않는 경로(api/users/**)는 여기서 한 번만 검증
+        String token = JwtTokenFilter.extractToken(webRequest.getNativeRequest(HttpServletRequest.class));
+        if (token == null) {
+            throw new TokenInvalidException("토큰이 유효하지 않습니다.");
+        }
+
+        try {
+            return jwtTokenProvider.parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new TokenInvalidException("토큰이 유효하지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+-- spring.jpa.hibernate.ddl-auto=update 로 만들어지던 초기 스키마 (@Table 이름은 naming strategy 로 users, todo_lists 가 됨)
+-- (이미 운영 중인 DB 는 baseline-on-migrate 로 이 버전을 건너뜀)
+
+create table users (
+    id bigint not null auto_increment,
+    email varchar(255),
+    password varchar(255),
+    user_id varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table todo_lists (
+    id bigint not null auto_increment,
+    category enum ('DAILY','EXERCISE','IMPORTANT','STUDY'),
+    date date,
+    is_done bit,
+    title varchar(255),
+    user_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+alter table todo_lists
+    add constraint fk_todo_lists_user foreign key (user_id) references users (id);
@@ -0,0 +1,33 @@
+-- 하루 통계와 미완료 개수 카운터 (ddl-auto 로 이미 만들어진 DB 도 있으므로 if not exists)
+
+create table if not exists daily_todo_stats (
+    id bigint not null auto_increment,
+    user_id bigint,
+    date date,
+    done_count bigint,
+    not_done_count bigint,
+    primary key (id),
+    constraint uk_daily_todo_stats_user_date unique (user_id, date)
+) engine=InnoDB;
+
+create table if not exists user_todo_counters (
+    user_id bigint not null,
+    not_done_count bigint,
+    primary key (user_id)
+) engine=InnoDB;
+
+-- 기존 할 일로 채워 둠 (월 조회가 daily_todo_stats 만 읽으므로 비어 있으면 모든 달이 0으로 보임)
+-- ddl-auto 시절에 이미 만들어져 행이 있는 경우는 그대로 두고 빠진 행만 추가
+insert ignore into daily_todo_stats (user_id, date, done_count, not_done_count)
+select t.user_id, t.date,
+       sum(case when t.is_done then 1 else 0 end),
+       sum(case when t.is_done then 0 else 1 end)
+from todo_lists t
+where t.user_id is not null and t.date is not null
+group by t.user_id, t.date;
+
+insert ignore into user_todo_counters (user_id, not_done_count)
+select t.user_id, sum(case when t.is_done then 0 else 1 end)
+from todo_lists t
+where t.user_id is not null
+group by t.user_id;
@@ -0,0 +1,9 @@
+-- TodoRepository: findByUserAndDate, findByUserAndDateBetween, 날짜별 집계
+create index idx_todo_lists_user_date on todo_lists (user_id, date);
+
+-- 미완료 개수 카운터 초기화 (user_id, is_done 조건)
+create index idx_todo_lists_user_done on todo_lists (user_id, is_done);
+
+-- UserRepository: findByUserId, findByEmail (매 요청/회원가입 확인)
+create unique index uk_users_user_id on users (user_id);
+create unique index uk_users_email on users (email);
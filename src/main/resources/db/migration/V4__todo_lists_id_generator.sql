@@ -0,0 +1,11 @@
+-- todo_lists.id 를 IDENTITY 대신 테이블 생성기(pooled, 50개 단위)로 할당해 insert 배치를 가능하게 함
+
+create table id_generators (
+    sequence_name varchar(255) not null,
+    next_val bigint,
+    primary key (sequence_name)
+) engine=InnoDB;
+
+-- 기존 AUTO_INCREMENT 로 발급된 id 와 겹치지 않도록 한 블록(50) 뒤에서 시작
+insert into id_generators (sequence_name, next_val)
+select 'todo_lists', coalesce(max(id), 0) + 51 from todo_lists;
@@ -0,0 +1,8 @@
+-- 사용자별, 월별 할 일 버전 (하루/한 달 조회의 ETag)
+
+create table todo_month_versions (
+    user_id bigint not null,
+    month_key int not null,
+    version bigint not null,
+    primary key (user_id, month_key)
+) engine=InnoDB;
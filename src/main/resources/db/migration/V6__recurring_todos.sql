@@ -0,0 +1,29 @@
+-- 반복 할 일 규칙과 날짜별 완료 기록 (완료한 날짜만 행이 생김)
+
+create table recurring_todos (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    title varchar(255),
+    category enum ('DAILY','EXERCISE','IMPORTANT','STUDY'),
+    frequency enum ('DAILY','WEEKLY','MONTHLY') not null,
+    interval_count int not null,
+    by_day varchar(32),
+    start_date date not null,
+    until_date date,
+    primary key (id),
+    constraint fk_recurring_todos_user foreign key (user_id) references users (id)
+) engine=InnoDB;
+
+create index idx_recurring_todos_user on recurring_todos (user_id, start_date);
+
+create table recurring_todo_completions (
+    id bigint not null auto_increment,
+    recurring_todo_id bigint not null,
+    user_id bigint not null,
+    date date not null,
+    primary key (id),
+    constraint uk_recurring_todo_completions_todo_date unique (recurring_todo_id, date),
+    constraint fk_recurring_todo_completions_todo foreign key (recurring_todo_id) references recurring_todos (id) on delete cascade
+) engine=InnoDB;
+
+create index idx_recurring_todo_completions_user_date on recurring_todo_completions (user_id, date);
@@ -0,0 +1,15 @@
+-- 샤딩(datasource.shard.urls)을 켰을 때 0번 샤드에서 쓰는 사용자 -> 샤드 디렉터리 (다른 샤드에서는 비어 있음)
+-- user_key 는 모든 샤드에서 겹치지 않는 USERS.id 로 쓰임
+
+create table user_shards (
+    user_key bigint not null auto_increment,
+    user_id varchar(255) not null,
+    email varchar(255),
+    shard int not null,
+    moving boolean not null default false,
+    primary key (user_key),
+    constraint uk_user_shards_user_id unique (user_id),
+    constraint uk_user_shards_email unique (email)
+) engine=InnoDB;
+
+create index idx_user_shards_shard on user_shards (shard, user_key);
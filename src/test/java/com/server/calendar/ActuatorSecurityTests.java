@@ -0,0 +1,42 @@
+package com.server.calendar;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.server.calendar.util.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+// health 만 익명으로 열리고 나머지 actuator 는 관리자만
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,metrics,prometheus",
+        "security.admin.user-ids=actuatoradmin"})
+@AutoConfigureMockMvc
+class ActuatorSecurityTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void healthIsAnonymous() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void metricsNeedAdminRole() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + jwtTokenProvider.createToken("actuatoruser")))
+                .andExpect(status().isForbidden());
+        // 테스트에서는 Prometheus 내보내기가 꺼져 있으므로 metrics 로 확인
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + jwtTokenProvider.createToken("actuatoradmin")))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,115 @@
+package com.server.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.calendar.todo.service.NotDoneCounter;
+import com.server.calendar.user.cache.UserKeyCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+// 미완료 개수 = 미완료 일반 할 일 전체 + 요청한 날짜의 미완료 반복 할 일
+@SpringBootTest
+@AutoConfigureMockMvc
+class NotDoneCountTests {
+
+    private static final String USER_ID = "countuser1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserKeyCache userKeyCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotDoneCounter notDoneCounter;
+
+    @AfterEach
+    void tearDown() {
+        for (String table : new String[]{"recurring_todo_completions", "recurring_todos", "todo_month_versions",
+                "user_todo_counters", "daily_todo_stats", "todo_lists", "users"}) {
+            jdbcTemplate.update("delete from " + table);
+        }
+        userKeyCache.evict(USER_ID);
+        // JDBC 로 지운 행은 Hibernate 가 모르므로 쿼리 캐시까지 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void countsRecurringOccurrencesOfTheRequestedDateOnly() throws Exception {
+        String authorization = signupAndLogin();
+        for (String date : new String[]{"2024-05-10", "2024-06-01"}) {
+            perform(post("/api/todo").header("Authorization", authorization).contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"date\":\"" + date + "\",\"title\":\"todo\",\"category\":\"DAILY\"}"));
+        }
+        // 2024-05-13 은 월요일
+        perform(post("/api/todo/recurring").header("Authorization", authorization).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"routine\",\"category\":\"EXERCISE\",\"startDate\":\"2024-05-06\",\"rrule\":\"FREQ=WEEKLY;BYDAY=MO\"}"));
+        Long recurringId = jdbcTemplate.queryForObject("select id from recurring_todos", Long.class);
+
+        // 일반 할 일은 날짜와 상관없이 전부 셈
+        assertThat(notDoneCount(authorization, "2024-05-13")).isEqualTo(3);
+        assertThat(notDoneCount(authorization, "2024-05-14")).isEqualTo(2);
+
+        perform(put("/api/todo/recurring/" + recurringId + "/checking/2024-05-13").header("Authorization", authorization));
+        assertThat(notDoneCount(authorization, "2024-05-13")).isEqualTo(2);
+        assertThat(notDoneCount(authorization, "2024-05-20")).isEqualTo(3);
+    }
+
+    @Test
+    void recomputeAllSkipsTodosWithoutUser() throws Exception {
+        String authorization = signupAndLogin();
+        perform(post("/api/todo").header("Authorization", authorization).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"date\":\"2024-05-10\",\"title\":\"todo\",\"category\":\"DAILY\"}"));
+        // 사용자 행이 지워지기 전 데이터처럼 user_id 가 비어 있는 할 일
+        jdbcTemplate.update("insert into todo_lists (date, is_done, title, user_id) values ('2024-05-10', false, 'orphan', null)");
+
+        assertThat(notDoneCounter.recomputeAll()).isEqualTo(1);
+        assertThat(notDoneCount(authorization, "2024-05-10")).isEqualTo(1);
+    }
+
+    private long notDoneCount(String authorization, String date) throws Exception {
+        MvcResult result = perform(get("/api/todo/notDoneCount").param("date", date).header("Authorization", authorization));
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data").asLong();
+    }
+
+    private String signupAndLogin() throws Exception {
+        perform(post("/api/users/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"count@test.com\",\"userId\":\"" + USER_ID + "\",\"password\":\"Passw0rd!\"}"));
+        MvcResult result = perform(post("/api/users/signin").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"" + USER_ID + "\",\"password\":\"Passw0rd!\"}"));
+        assertThat(result.getResponse().getStatus()).isEqualTo(201);
+        return result.getResponse().getHeader("Authorization");
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+package com.server.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.calendar.user.cache.UserKeyCache;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+// 두 개의 내장 DB 를 주 DB / 복제본으로 두고 읽기 전용 조회가 복제본으로 가는지 확인
+// 복제는 일어나지 않으므로 복제본에 없는 데이터가 보이면 주 DB 에서 읽은 것
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rw_primary;MODE=MySQL;DATABASE_TO_LOWER=FALSE;DB_CLOSE_DELAY=-1",
+        "datasource.replica.url=jdbc:h2:mem:rw_replica;MODE=MySQL;DATABASE_TO_LOWER=FALSE;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "datasource.replica.read-your-writes-window=1s"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTests {
+
+    private static final String USER_ID = "replicauser1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserKeyCache userKeyCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private String authorization;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        Flyway.configure().dataSource(replicaDataSource).load().migrate();
+
+        perform(post("/api/users/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"replica@test.com\",\"userId\":\"" + USER_ID + "\",\"password\":\"Passw0rd!\"}"));
+        authorization = perform(post("/api/users/signin").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"" + USER_ID + "\",\"password\":\"Passw0rd!\"}"))
+                .getResponse().getHeader("Authorization");
+
+        // 사용자 행만 복제된 상태로 맞춤
+        primary.query("select id, user_id, email, password from users", row -> {
+            replica.update("insert into users (id, user_id, email, password) values (?, ?, ?, ?)",
+                    row.getLong(1), row.getString(2), row.getString(3), row.getString(4));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (JdbcTemplate jdbcTemplate : new JdbcTemplate[]{primary, replica}) {
+            for (String table : new String[]{"todo_month_versions", "user_todo_counters", "daily_todo_stats", "todo_lists", "users"}) {
+                jdbcTemplate.update("delete from " + table);
+            }
+        }
+        userKeyCache.evict(USER_ID);
+        // JDBC 로 지운 행은 Hibernate 가 모르므로 2차/쿼리 캐시도 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void writesGoToPrimaryAndReadOnlyQueriesToReplica() throws Exception {
+        createTodo();
+        assertThat(primary.queryForObject("select count(*) from todo_lists", Integer.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("select count(*) from todo_lists", Integer.class)).isZero();
+
+        // read-your-writes 시간이 지나면 복제본에서 읽음 (아직 복제되지 않았으므로 비어 있음)
+        Thread.sleep(1200);
+        assertThat(dayView()).isEmpty();
+
+        copyTodosToReplica();
+        assertThat(dayView()).hasSize(1);
+    }
+
+    @Test
+    void writerReadsOwnWritesFromPrimaryWithinWindow() throws Exception {
+        createTodo();
+
+        assertThat(dayView()).hasSize(1);
+    }
+
+    private void createTodo() throws Exception {
+        perform(post("/api/todo").header("Authorization", authorization).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"date\":\"2024-05-10\",\"title\":\"replicated later\",\"category\":\"DAILY\"}"));
+    }
+
+    // 실제 복제처럼 월별 버전도 할 일과 함께 옮김
+    private void copyTodosToReplica() {
+        primary.query("select id, date, title, category, is_done, user_id from todo_lists", row -> {
+            replica.update("insert into todo_lists (id, date, title, category, is_done, user_id) values (?, ?, ?, ?, ?, ?)",
+                    row.getLong(1), row.getDate(2), row.getString(3), row.getString(4), row.getBoolean(5), row.getLong(6));
+        });
+        primary.query("select user_id, month_key, version from todo_month_versions", row -> {
+            replica.update("insert into todo_month_versions (user_id, month_key, version) values (?, ?, ?)",
+                    row.getLong(1), row.getInt(2), row.getLong(3));
+        });
+    }
+
+    private JsonNode dayView() throws Exception {
+        MvcResult result = perform(get("/api/todo/oneDay/2024-05-10").header("Authorization", authorization));
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result;
+    }
+}
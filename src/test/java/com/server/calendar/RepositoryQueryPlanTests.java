@@ -0,0 +1,154 @@
+package com.server.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.server.calendar.todo.repository.DailyTodoStatsRepository;
+import com.server.calendar.todo.repository.TodoRepository;
+import com.server.calendar.todo.repository.UserTodoCounterRepository;
+import com.server.calendar.user.repository.UserRepository;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 리포지토리 조회 쿼리가 실제로 만들어내는 SQL 을 EXPLAIN 해서 전체 테이블 스캔이 없는지 확인
+// H2(MySQL 모드)의 실행 계획이므로 MySQL 옵티마이저의 선택을 보장하지는 않음 - 인덱스가 빠진 쿼리를 잡는 근사치
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.server.calendar.RepositoryQueryPlanTests$CapturingStatementInspector")
+class RepositoryQueryPlanTests {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 10);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DailyTodoStatsRepository dailyTodoStatsRepository;
+
+    @Autowired
+    private UserTodoCounterRepository userTodoCounterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        // 옵티마이저가 인덱스를 고르도록 사용자/할 일을 충분히 넣어둠
+        for (int u = 1; u <= 20; u++) {
+            jdbcTemplate.update("insert into users (id, user_id, email, password) values (?, ?, ?, 'pw')",
+                    u, "planuser" + u, "plan" + u + "@test.com");
+            for (int d = 0; d < 30; d++) {
+                jdbcTemplate.update("insert into todo_lists (date, title, category, is_done, user_id) values (?, 'todo', 'DAILY', ?, ?)",
+                        DAY.plusDays(d % 10), d % 2 == 0, u);
+            }
+            jdbcTemplate.update("insert into daily_todo_stats (user_id, date, done_count, not_done_count) values (?, ?, 1, 1)", u, DAY);
+            jdbcTemplate.update("insert into user_todo_counters (user_id, not_done_count) values (?, 15)", u);
+        }
+        jdbcTemplate.execute("analyze");
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from user_todo_counters");
+        jdbcTemplate.update("delete from daily_todo_stats");
+        jdbcTemplate.update("delete from todo_lists");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    void todoRepositoryQueriesUseIndexes() throws Exception {
+        todoRepository.findDayViewByUserKeyAndDate(1L, DAY);
+        todoRepository.findRangeViewByUserKeyAndDateBetween(1L, DAY, DAY.plusDays(6));
+        dailyTodoStatsRepository.findDailyByUserKeyAndDateBetween(1L, DAY, DAY.plusDays(30));
+        userTodoCounterRepository.findNotDoneCountByUserKey(1L);
+
+        assertNoFullScan();
+    }
+
+    @Test
+    void userRepositoryQueriesUseIndexes() throws Exception {
+        userRepository.findByUserId("planuser1");
+        userRepository.findByEmail("plan1@test.com");
+        userRepository.findIdByUserId("planuser1");
+
+        assertNoFullScan();
+    }
+
+    private void assertNoFullScan() throws Exception {
+        List<String> selects = new ArrayList<>();
+        for (String sql : CapturingStatementInspector.STATEMENTS) {
+            if (sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                selects.add(sql);
+            }
+        }
+        assertThat(selects).isNotEmpty();
+
+        try (Connection connection = dataSource.getConnection()) {
+            for (String sql : selects) {
+                String plan = explain(connection, sql);
+                assertThat(plan)
+                        .as("full scan in plan of: %s%n%s", sql, plan)
+                        .doesNotContainIgnoringCase("tableScan");
+            }
+        }
+    }
+
+    // 파라미터는 테스트 데이터에 있는 값으로 바인딩 (null 이면 H2 가 "col = NULL" 조건을 접어 다른 계획이 나옴)
+    private String explain(Connection connection, String sql) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            ParameterMetaData parameters = statement.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                statement.setObject(i, sampleValue(parameters.getParameterType(i)));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case Types.DATE -> DAY;
+            case Types.VARCHAR, Types.CHAR -> "planuser1";
+            case Types.BOOLEAN, Types.BIT -> false;
+            case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> 1;
+            default -> 1L;
+        };
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.server.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.server.calendar.util.config.VirtualThreadPinningMonitor;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+// 플랫폼 스레드 / 가상 스레드 요청 처리 모드 비교 (./gradlew loadTest 로만 실행)
+// 모든 SQL 문에 네트워크 왕복을 흉내 낸 지연을 넣고, 톰캣 스레드 수보다 많은 동시 요청을 보냄
+@Tag("load")
+class RequestThreadModeLoadTests {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 400);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 6000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("load.warmupRequests", 1000);
+    private static final long STATEMENT_LATENCY_MS = Long.getLong("load.statementLatencyMs", 5);
+    // 두 모드 모두 같은 설정 (가상 스레드 모드에서는 톰캣 스레드 수 제한이 적용되지 않음)
+    private static final int TOMCAT_MAX_THREADS = Integer.getInteger("load.tomcatMaxThreads", 50);
+    private static final int POOL_SIZE = Integer.getInteger("load.poolSize", 200);
+
+    @Test
+    void compareRequestThreadModes() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        String report = String.format(Locale.ROOT,
+                "{\"concurrency\":%d,\"requests\":%d,\"statementLatencyMs\":%d,\"tomcatMaxThreads\":%d,\"poolSize\":%d,%n" +
+                        " \"platform\":%s,%n \"virtual\":%s}%n",
+                CONCURRENCY, REQUESTS, STATEMENT_LATENCY_MS, TOMCAT_MAX_THREADS, POOL_SIZE, platform.toJson(), virtual.toJson());
+        System.out.println("request thread mode comparison:\n" + report);
+        String reportDir = System.getProperty("load.reportDir");
+        if (reportDir != null) {
+            Files.createDirectories(Path.of(reportDir));
+            Files.writeString(Path.of(reportDir, "request-thread-modes.json"), report);
+        }
+
+        assertThat(platform.errors).isZero();
+        assertThat(virtual.errors).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CalendarApplication.class, StatementLatencyConfig.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.datasource.url=jdbc:h2:mem:load_" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=FALSE;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient client = HttpClient.newBuilder().executor(clientExecutor).version(HttpClient.Version.HTTP_1_1).build();
+                String token = signUpAndSignIn(client, baseUrl);
+                for (int i = 0; i < 5; i++) {
+                    send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/api/todo"))
+                            .header("Authorization", token)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"date\":\"2024-05-10\",\"title\":\"todo" + i + "\",\"category\":\"DAILY\"}"))
+                            .build());
+                }
+
+                HttpRequest dayView = HttpRequest.newBuilder(URI.create(baseUrl + "/api/todo/oneDay/2024-05-10"))
+                        .header("Authorization", token)
+                        .GET()
+                        .build();
+                fire(client, dayView, WARMUP_REQUESTS);
+                Result result = fire(client, dayView, REQUESTS);
+
+                VirtualThreadPinningMonitor[] monitors = context.getBeansOfType(VirtualThreadPinningMonitor.class).values()
+                        .toArray(new VirtualThreadPinningMonitor[0]);
+                result.pinnedEvents = monitors.length == 0 ? -1 : monitors[0].getPinnedCount();
+                return result;
+            }
+        }
+    }
+
+    private Result fire(HttpClient client, HttpRequest request, int count) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long[] latencies = new long[count];
+        AtomicInteger errors = new AtomicInteger();
+        long started = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                inFlight.acquire();
+                int index = i;
+                workers.submit(() -> {
+                    long requestStarted = System.nanoTime();
+                    try {
+                        if (send(client, request).statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - requestStarted;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        Result result = new Result();
+        result.throughput = count / (elapsed / 1_000_000_000.0);
+        result.p50Ms = latencies[(int) (count * 0.50)] / 1_000_000.0;
+        result.p99Ms = latencies[(int) (count * 0.99)] / 1_000_000.0;
+        result.errors = errors.get();
+        return result;
+    }
+
+    private String signUpAndSignIn(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        String credentials = "{\"userId\":\"loadtester1\",\"password\":\"Passw0rd!\"}";
+        send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/signup"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"load@test.com\",\"userId\":\"loadtester1\",\"password\":\"Passw0rd!\"}"))
+                .build());
+        HttpResponse<String> signIn = send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/signin"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(credentials))
+                .build());
+        return signIn.headers().firstValue("Authorization").orElseThrow();
+    }
+
+    private static HttpResponse<String> send(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    static class Result {
+        double throughput;
+        double p50Ms;
+        double p99Ms;
+        int errors;
+        long pinnedEvents;
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"throughputPerSec\":%.1f,\"p50Ms\":%.1f,\"p99Ms\":%.1f,\"errors\":%d,\"pinnedEvents\":%d}",
+                    throughput, p50Ms, p99Ms, errors, pinnedEvents);
+        }
+    }
+
+    // 모든 SQL 실행 앞에 고정 지연 (DB 왕복 시간 흉내)
+    @TestConfiguration
+    static class StatementLatencyConfig {
+
+        private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeBatch", "executeLargeUpdate");
+
+        @Bean
+        static BeanPostProcessor statementLatencyPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return proxy(DataSource.class, dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                if (target instanceof Statement && EXECUTE_METHODS.contains(method.getName())) {
+                    Thread.sleep(STATEMENT_LATENCY_MS);
+                }
+                Object result = invoke(target, method, args);
+                if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+                    return proxy(Connection.class, connection);
+                }
+                if (result instanceof Statement statement && target instanceof Connection) {
+                    Class<?> statementType = method.getReturnType().isInterface() ? method.getReturnType() : Statement.class;
+                    return proxy((Class<Object>) statementType, statement);
+                }
+                return result;
+            };
+            return (T) Proxy.newProxyInstance(RequestThreadModeLoadTests.class.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.server.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.calendar.doamin.User;
+import com.server.calendar.user.cache.UserKeyCache;
+import com.server.calendar.util.metrics.StatementBudgetInterceptor;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+// 바뀌지 않은 데이터는 캐시에서 읽고, 할 일/사용자가 바뀌면 바로 새 값이 보이는지 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+class SecondLevelCacheTests {
+
+    private static final String USER_ID = "cacheuser1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserKeyCache userKeyCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        for (String table : new String[]{"recurring_todo_completions", "recurring_todos", "todo_month_versions",
+                "user_todo_counters", "daily_todo_stats", "todo_lists", "users"}) {
+            jdbcTemplate.update("delete from " + table);
+        }
+        userKeyCache.evict(USER_ID);
+        // JDBC 로 지운 행은 Hibernate 가 모르므로 쿼리 캐시까지 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void unchangedDayIsServedWithOnlyTheVersionQuery() throws Exception {
+        String authorization = signupAndLogin();
+        perform(post("/api/todo").header("Authorization", authorization).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"date\":\"2024-05-10\",\"title\":\"first\",\"category\":\"DAILY\"}"));
+
+        MvcResult first = perform(get("/api/todo/oneDay/2024-05-10").header("Authorization", authorization));
+        MvcResult second = perform(get("/api/todo/oneDay/2024-05-10").header("Authorization", authorization));
+
+        assertThat(day(second)).isEqualTo(day(first));
+        assertThat(second.getResponse().getHeader("Cache-Control")).isEqualTo("no-cache, private");
+        assertThat(statements(second)).isEqualTo(1);
+
+        // 제목을 바꾸면 버전이 올라가 새 목록을 읽음
+        long todoId = day(first).get(0).get("todoId").asLong();
+        perform(put("/api/todo/title/" + todoId).header("Authorization", authorization).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"renamed\"}"));
+        MvcResult renamed = perform(get("/api/todo/oneDay/2024-05-10").header("Authorization", authorization));
+        assertThat(day(renamed).get(0).get("title").asText()).isEqualTo("renamed");
+
+        perform(put("/api/todo/checking/" + todoId).header("Authorization", authorization));
+        MvcResult checked = perform(get("/api/todo/oneDay/2024-05-10").header("Authorization", authorization));
+        assertThat(day(checked).get(0).get("isDone").asBoolean()).isTrue();
+    }
+
+    @Test
+    void loginLooksUpUserThroughCacheAndSeesNewSignup() throws Exception {
+        // 가입 전의 "없음" 결과가 쿼리 캐시에 남아 있어도 가입 뒤에는 로그인됨
+        MvcResult missing = perform(post("/api/users/signin").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"" + USER_ID + "\",\"password\":\"Passw0rd!\"}"));
+        assertThat(missing.getResponse().getStatus()).isNotEqualTo(201);
+
+        signupAndLogin();
+        Long userKey = jdbcTemplate.queryForObject("select id from users where user_id = ?", Long.class, USER_ID);
+        assertThat(entityManagerFactory.getCache().contains(User.class, userKey)).isTrue();
+    }
+
+    private String signupAndLogin() throws Exception {
+        perform(post("/api/users/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"cache@test.com\",\"userId\":\"" + USER_ID + "\",\"password\":\"Passw0rd!\"}"));
+        MvcResult result = perform(post("/api/users/signin").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"" + USER_ID + "\",\"password\":\"Passw0rd!\"}"));
+        assertThat(result.getResponse().getStatus()).isEqualTo(201);
+        return result.getResponse().getHeader("Authorization");
+    }
+
+    private JsonNode day(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
+    }
+
+    private static int statements(MvcResult result) {
+        return (Integer) result.getRequest().getAttribute(StatementBudgetInterceptor.STATEMENT_COUNT_ATTRIBUTE);
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,237 @@
+package com.server.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.calendar.admin.dto.ShardMoveDto;
+import com.server.calendar.admin.service.ShardRebalancer;
+import com.server.calendar.user.cache.UserKeyCache;
+import com.server.calendar.util.datasource.ShardDataSources;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+// 세 개의 내장 DB 를 샤드로 두고 사용자별로 나뉘어 저장/조회되는지, 옮긴 뒤에도 그대로 보이는지 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shard0;MODE=MySQL;DATABASE_TO_LOWER=FALSE;DB_CLOSE_DELAY=-1",
+        "datasource.shard.urls=jdbc:h2:mem:shard0;MODE=MySQL;DATABASE_TO_LOWER=FALSE;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:shard1;MODE=MySQL;DATABASE_TO_LOWER=FALSE;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:shard2;MODE=MySQL;DATABASE_TO_LOWER=FALSE;DB_CLOSE_DELAY=-1",
+        "datasource.shard.username=sa",
+        "datasource.shard.directory-cache=0s"
+})
+@AutoConfigureMockMvc
+class ShardRoutingTests {
+
+    private static final String[] TABLES = {"recurring_todo_completions", "recurring_todos", "todo_month_versions",
+            "user_todo_counters", "daily_todo_stats", "todo_lists", "users", "user_shards"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardDataSources shardDataSources;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Autowired
+    private UserKeyCache userKeyCache;
+
+    @Value("${jwt.secretKey}")
+    private String secretKey;
+
+    private final List<JdbcTemplate> shards = new ArrayList<>();
+    private final List<String> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        shardDataSources.all().forEach(dataSource -> shards.add(new JdbcTemplate(dataSource)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (JdbcTemplate shard : shards) {
+            for (String table : TABLES) {
+                shard.update("delete from " + table);
+            }
+        }
+        userIds.forEach(userKeyCache::evict);
+    }
+
+    @Test
+    void usersAndTheirTodosLiveOnTheirShard() throws Exception {
+        Set<Integer> used = new HashSet<>();
+        for (int u = 1; u <= 6; u++) {
+            String userId = "sharduser" + u;
+            String authorization = signupAndLogin(userId);
+            createTodo(authorization, "todo of " + userId);
+
+            int shard = shardOf(userId);
+            used.add(shard);
+            for (int other = 0; other < shards.size(); other++) {
+                int expected = other == shard ? 1 : 0;
+                assertThat(count(other, "select count(*) from users where user_id = ?", userId)).isEqualTo(expected);
+                assertThat(count(other, "select count(*) from todo_lists t join users u on t.user_id = u.id where u.user_id = ?", userId))
+                        .isEqualTo(expected);
+            }
+            assertThat(dayView(authorization)).hasSize(1);
+            assertThat(dayView(authorization).get(0).get("title").asText()).isEqualTo("todo of " + userId);
+        }
+        assertThat(used).hasSizeGreaterThan(1);
+
+        // 다른 샤드에 있는 사용자의 아이디/이메일도 중복으로 막음
+        for (int u = 1; u <= 6; u++) {
+            assertThat(perform(get("/api/users/userId/sharduser" + u)).getResponse().getStatus()).isEqualTo(409);
+            assertThat(perform(get("/api/users/email/sharduser" + u + "@test.com")).getResponse().getStatus()).isEqualTo(409);
+        }
+    }
+
+    @Test
+    void movedUserKeepsTodoIdsAndIsServedFromTargetShard() throws Exception {
+        String userId = "moveduser1";
+        String authorization = signupAndLogin(userId);
+        createTodo(authorization, "first");
+        createTodo(authorization, "second");
+        perform(post("/api/todo/recurring").header("Authorization", authorization).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"routine\",\"category\":\"EXERCISE\",\"startDate\":\"2024-05-01\",\"rrule\":\"FREQ=DAILY\"}"));
+        long doneId = todoIds(dayView(authorization)).get(0);
+        perform(put("/api/todo/checking/" + doneId).header("Authorization", authorization));
+        List<Long> idsBefore = todoIds(dayView(authorization));
+        String eTagBefore = perform(get("/api/todo/oneDay/2024-05-10").header("Authorization", authorization))
+                .getResponse().getHeader("ETag");
+
+        long notDoneBefore = notDoneCount(authorization);
+        int source = shardOf(userId);
+        int target = (source + 1) % shards.size();
+        ShardMoveDto move = shardRebalancer.move(userId, target);
+
+        assertThat(move.getTodoCount()).isEqualTo(2);
+        assertThat(shardOf(userId)).isEqualTo(target);
+        assertThat(count(source, "select count(*) from users where user_id = ?", userId)).isZero();
+        assertThat(count(source, "select count(*) from todo_lists where title in (?, ?)", "first", "second")).isZero();
+        assertThat(count(target, "select count(*) from recurring_todos where title = ?", "routine")).isEqualTo(1);
+
+        // 같은 토큰으로 계속 사용 가능하고, id 와 완료 상태가 그대로
+        JsonNode day = dayView(authorization);
+        assertThat(todoIds(day)).containsExactlyElementsOf(idsBefore);
+        // 반복 할 일은 대상 샤드에서 새 id 를 받으므로 ETag 가 바뀌고 새 id 가 보여야 함 (304 나 캐시된 옛 id 가 아니라)
+        MvcResult revalidated = perform(get("/api/todo/oneDay/2024-05-10").header("Authorization", authorization)
+                .header("If-None-Match", eTagBefore));
+        assertThat(revalidated.getResponse().getStatus()).isEqualTo(200);
+        Long recurringId = shards.get(target).queryForObject("select id from recurring_todos where title = ?", Long.class, "routine");
+        assertThat(day.findValues("recurringTodoId").stream().filter(id -> !id.isNull()).map(JsonNode::asLong))
+                .containsExactly(recurringId);
+        assertThat(notDoneCount(authorization)).isEqualTo(notDoneBefore);
+        assertThat(signupAndLogin(userId)).isNotNull();
+    }
+
+    @Test
+    void adminRecomputeCoversEveryShard() throws Exception {
+        Set<Integer> used = new HashSet<>();
+        for (int u = 1; u <= 6; u++) {
+            String authorization = signupAndLogin("countuser" + u);
+            createTodo(authorization, "todo");
+            used.add(shardOf("countuser" + u));
+        }
+        shards.forEach(shard -> shard.update("delete from user_todo_counters"));
+
+        MvcResult result = perform(post("/api/admin/counters/notDone/recompute").header("Authorization", adminAuthorization()));
+
+        assertThat(objectMapper.readTree(result.getResponse().getContentAsString()).get("data").asInt()).isEqualTo(6);
+        for (int shard : used) {
+            assertThat(count(shard, "select count(*) from user_todo_counters")).isPositive();
+        }
+    }
+
+    private String signupAndLogin(String userId) throws Exception {
+        if (!userIds.contains(userId)) {
+            userIds.add(userId);
+            perform(post("/api/users/signup").contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"email\":\"" + userId + "@test.com\",\"userId\":\"" + userId + "\",\"password\":\"Passw0rd!\"}"));
+        }
+        MvcResult result = perform(post("/api/users/signin").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"" + userId + "\",\"password\":\"Passw0rd!\"}"));
+        assertThat(result.getResponse().getStatus()).isEqualTo(201);
+        return result.getResponse().getHeader("Authorization");
+    }
+
+    private void createTodo(String authorization, String title) throws Exception {
+        MvcResult result = perform(post("/api/todo").header("Authorization", authorization).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"date\":\"2024-05-10\",\"title\":\"" + title + "\",\"category\":\"DAILY\"}"));
+        assertThat(result.getResponse().getStatus()).isEqualTo(201);
+    }
+
+    private JsonNode dayView(String authorization) throws Exception {
+        MvcResult result = perform(get("/api/todo/oneDay/2024-05-10").header("Authorization", authorization));
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data");
+    }
+
+    private long notDoneCount(String authorization) throws Exception {
+        MvcResult result = perform(get("/api/todo/notDoneCount").header("Authorization", authorization));
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("data").asLong();
+    }
+
+    private static List<Long> todoIds(JsonNode day) {
+        List<Long> ids = new ArrayList<>();
+        // 반복 할 일에서 펼친 항목은 todoId 가 없음
+        day.forEach(todo -> {
+            if (!todo.get("todoId").isNull()) {
+                ids.add(todo.get("todoId").asLong());
+            }
+        });
+        return ids;
+    }
+
+    private int shardOf(String userId) {
+        return shards.get(0).queryForObject("select shard from user_shards where user_id = ?", Integer.class, userId);
+    }
+
+    private int count(int shard, String sql, Object... args) {
+        return shards.get(shard).queryForObject(sql, Integer.class, args);
+    }
+
+    private String adminAuthorization() {
+        String token = Jwts.builder()
+                .setSubject("shardadmin")
+                .claim("roles", "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, TextCodec.BASE64.decode(secretKey))
+                .compact();
+        return "Bearer " + token;
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result;
+    }
+}
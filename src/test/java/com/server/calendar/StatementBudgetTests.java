@@ -0,0 +1,171 @@
+package com.server.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import com.server.calendar.user.cache.UserKeyCache;
+import com.server.calendar.util.annotation.StatementBudget;
+import com.server.calendar.util.metrics.StatementBudgetInterceptor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 컨트롤러 핸들러의 @StatementBudget 을 실제 요청으로 확인 (N+1, 불필요한 왕복이 생기면 실패)
+// 사용자 키 캐시를 매번 비워서 가장 많은 SQL 을 실행하는 경로로 측정
+@SpringBootTest
+@AutoConfigureMockMvc
+class StatementBudgetTests {
+
+    private static final String USER_ID = "budgetuser1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserKeyCache userKeyCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String authorization;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        perform(post("/api/users/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"budget@test.com\",\"userId\":\"" + USER_ID + "\",\"password\":\"Passw0rd!\"}"));
+        authorization = perform(post("/api/users/signin").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"" + USER_ID + "\",\"password\":\"Passw0rd!\"}"))
+                .getResponse().getHeader("Authorization");
+
+        for (int i = 0; i < 3; i++) {
+            perform(post("/api/todo").header("Authorization", authorization).contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"date\":\"2024-05-10\",\"title\":\"todo" + i + "\",\"category\":\"DAILY\"}"));
+        }
+        perform(post("/api/todo/recurring").header("Authorization", authorization).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"routine\",\"category\":\"EXERCISE\",\"startDate\":\"2024-05-01\",\"rrule\":\"FREQ=DAILY\"}"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : new String[]{"recurring_todo_completions", "recurring_todos", "todo_month_versions",
+                "user_todo_counters", "daily_todo_stats", "todo_lists", "users"}) {
+            jdbcTemplate.update("delete from " + table);
+        }
+        userKeyCache.evict(USER_ID);
+        // JDBC 로 지운 행은 Hibernate 가 모르므로 2차/쿼리 캐시도 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void todoEndpointsStayWithinBudget() throws Exception {
+        Long todoId = jdbcTemplate.queryForObject("select min(id) from todo_lists", Long.class);
+
+        assertWithinBudget(post("/api/todo").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"date\":\"2024-05-11\",\"title\":\"new\",\"category\":\"STUDY\"}"));
+        assertWithinBudget(get("/api/todo/oneDay/2024-05-10"));
+        assertWithinBudget(get("/api/todo/range").param("from", "2024-05-06").param("to", "2024-05-12"));
+        assertWithinBudget(get("/api/todo/oneMonth/2024-05"));
+        assertWithinBudget(get("/api/todo/notDoneCount"));
+        assertWithinBudget(put("/api/todo/checking/" + todoId));
+        assertWithinBudget(put("/api/todo/title/" + todoId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"renamed\"}"));
+        assertWithinBudget(delete("/api/todo/" + todoId));
+    }
+
+    @Test
+    void userEndpointsStayWithinBudget() throws Exception {
+        assertWithinBudget(get("/api/users/email/unused@test.com"));
+        assertWithinBudget(get("/api/users/email/budget@test.com"));
+        assertWithinBudget(get("/api/users/userId/unuseduser1"));
+        assertWithinBudget(get("/api/users/userId/" + USER_ID));
+    }
+
+    @Test
+    void monthViewWithoutRecurringRulesReadsVersionAndStatsOnly() throws Exception {
+        perform(post("/api/users/signup").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"budget2@test.com\",\"userId\":\"budgetuser2\",\"password\":\"Passw0rd!\"}"));
+        String other = perform(post("/api/users/signin").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"budgetuser2\",\"password\":\"Passw0rd!\"}"))
+                .getResponse().getHeader("Authorization");
+        perform(post("/api/todo").header("Authorization", other).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"date\":\"2024-05-10\",\"title\":\"todo\",\"category\":\"DAILY\"}"));
+
+        // 사용자 키는 캐시에 있는 상태 - 월 버전 + 날짜 통계
+        MvcResult month = perform(get("/api/todo/oneMonth/2024-05").header("Authorization", other));
+        assertThat(month.getRequest().getAttribute(StatementBudgetInterceptor.STATEMENT_COUNT_ATTRIBUTE)).isEqualTo(2);
+        userKeyCache.evict("budgetuser2");
+    }
+
+    @Test
+    void statementsAreRecordedOncePerRequest() throws Exception {
+        // 세션마다가 아니라 요청이 끝날 때 그 요청의 SQL 문 수를 한 번 기록
+        MvcResult result = perform(withAuthorization(post("/api/todo").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"date\":\"2024-05-11\",\"title\":\"new\",\"category\":\"STUDY\"}")));
+        String uri = (String) result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary summary = meterRegistry.get("sql.request.statements").tag("uri", uri).summary();
+        long countBefore = summary.count();
+        double totalBefore = summary.totalAmount();
+
+        result = perform(withAuthorization(post("/api/todo").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"date\":\"2024-05-12\",\"title\":\"new\",\"category\":\"STUDY\"}")));
+        int statements = (Integer) result.getRequest().getAttribute(StatementBudgetInterceptor.STATEMENT_COUNT_ATTRIBUTE);
+
+        assertThat(statements).isPositive();
+        assertThat(summary.count()).isEqualTo(countBefore + 1);
+        assertThat(summary.totalAmount()).isEqualTo(totalBefore + statements);
+    }
+
+    private void assertWithinBudget(RequestBuilder request) throws Exception {
+        userKeyCache.evict(USER_ID);
+        MvcResult result = perform(withAuthorization(request));
+
+        StatementBudget budget = ((HandlerMethod) result.getHandler()).getMethodAnnotation(StatementBudget.class);
+        assertThat(budget).as("no @StatementBudget on %s", result.getHandler()).isNotNull();
+        Object statements = result.getRequest().getAttribute(StatementBudgetInterceptor.STATEMENT_COUNT_ATTRIBUTE);
+        assertThat((Integer) statements)
+                .as("%s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(budget.value());
+    }
+
+    private RequestBuilder withAuthorization(RequestBuilder request) {
+        return servletContext -> {
+            var built = request.buildRequest(servletContext);
+            if (authorization != null) {
+                built.addHeader("Authorization", authorization);
+            }
+            return built;
+        };
+    }
+
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+package com.server.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+// V1 시절에 쌓인 할 일이 V2 에서 하루 통계/미완료 카운터로 채워지는지 확인
+class TodoStatsBackfillMigrationTests {
+
+    @Test
+    void v2BackfillsStatsAndCountersFromExistingTodos() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:backfill;MODE=MySQL;DATABASE_TO_LOWER=FALSE;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        jdbcTemplate.update("insert into users (id, user_id, email, password) values (1, 'old1', 'old1@test.com', 'pw')");
+        jdbcTemplate.update("insert into todo_lists (date, title, category, is_done, user_id) values "
+                + "('2024-05-10', 'a', 'DAILY', true, 1), ('2024-05-10', 'b', 'DAILY', false, 1), ('2024-05-11', 'c', 'DAILY', false, 1)");
+
+        Flyway.configure().dataSource(dataSource).target("2").load().migrate();
+
+        Map<String, Object> day = jdbcTemplate.queryForMap(
+                "select done_count, not_done_count from daily_todo_stats where user_id = 1 and date = '2024-05-10'");
+        assertThat(((Number) day.get("done_count")).longValue()).isEqualTo(1);
+        assertThat(((Number) day.get("not_done_count")).longValue()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from daily_todo_stats", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select not_done_count from user_todo_counters where user_id = 1", Long.class))
+                .isEqualTo(2);
+    }
+}
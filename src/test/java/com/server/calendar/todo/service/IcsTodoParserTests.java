@@ -0,0 +1,77 @@
+package com.server.calendar.todo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.server.calendar.todo.dto.ImportedTodoDto;
+import com.server.calendar.util.exception.CustomValidationException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IcsTodoParserTests {
+
+    @Test
+    void nestedAlarmDoesNotOverwriteEventTitle() throws Exception {
+        List<ImportedTodoDto> todos = parse(new StringReader("""
+                BEGIN:VCALENDAR
+                BEGIN:VEVENT
+                DTSTART:20240510T090000Z
+                SUMMARY:Team meeting
+                BEGIN:VALARM
+                ACTION:DISPLAY
+                SUMMARY:Reminder
+                END:VALARM
+                STATUS:COMPLETED
+                END:VEVENT
+                END:VCALENDAR
+                """));
+
+        assertThat(todos).hasSize(1);
+        assertThat(todos.get(0).getTitle()).isEqualTo("Team meeting");
+        assertThat(todos.get(0).getDate()).isEqualTo(LocalDate.of(2024, 5, 10));
+        assertThat(todos.get(0).isDone()).isTrue();
+    }
+
+    @Test
+    void rejectsOverlongLine() {
+        String ics = "BEGIN:VEVENT\r\nSUMMARY:" + "x".repeat(IcsTodoParser.MAX_LINE_LENGTH) + "\r\nEND:VEVENT\r\n";
+
+        assertThatThrownBy(() -> parse(new StringReader(ics))).isInstanceOf(CustomValidationException.class);
+    }
+
+    @Test
+    void rejectsEndlesslyFoldedLine() {
+        // 짧은 줄을 끝없이 접어 이어 붙이는 입력 - 한도를 넘는 순간 멈춰야 함
+        Reader endless = new Reader() {
+            private final char[] fold = "\r\n xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx".toCharArray();
+            private final char[] head = "BEGIN:VEVENT\r\nSUMMARY:x".toCharArray();
+            private long position;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                for (int i = 0; i < length; i++, position++) {
+                    buffer[offset + i] = position < head.length
+                            ? head[(int) position]
+                            : fold[(int) ((position - head.length) % fold.length)];
+                }
+                return length;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertThatThrownBy(() -> parse(endless)).isInstanceOf(CustomValidationException.class);
+    }
+
+    private static List<ImportedTodoDto> parse(Reader reader) throws Exception {
+        List<ImportedTodoDto> todos = new ArrayList<>();
+        new IcsTodoParser(reader).parse(todos::add);
+        return todos;
+    }
+}
@@ -0,0 +1,74 @@
+package com.server.calendar.todo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.server.calendar.doamin.RecurringTodo;
+import com.server.calendar.util.exception.CustomValidationException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+class RecurrenceRulesTests {
+
+    private static RecurringTodo rule(String rrule, LocalDate start) {
+        return RecurrenceRules.parse(rrule, start, RecurringTodo.builder()).build();
+    }
+
+    @Test
+    void dailyWithIntervalStartsInsideWindow() {
+        RecurringTodo everyThirdDay = rule("FREQ=DAILY;INTERVAL=3", LocalDate.of(2024, 1, 1));
+
+        assertThat(RecurrenceRules.occurrences(everyThirdDay, LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 14), 100))
+                .containsExactly(LocalDate.of(2024, 1, 7), LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 13));
+    }
+
+    @Test
+    void weeklyByDayEveryOtherWeek() {
+        // 2024-05-06 은 월요일
+        RecurringTodo biweekly = rule("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR", LocalDate.of(2024, 5, 6));
+
+        assertThat(RecurrenceRules.occurrences(biweekly, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31), 100))
+                .containsExactly(LocalDate.of(2024, 5, 6), LocalDate.of(2024, 5, 10),
+                        LocalDate.of(2024, 5, 20), LocalDate.of(2024, 5, 24));
+    }
+
+    @Test
+    void monthlySkipsMonthsWithoutTheDay() {
+        RecurringTodo monthly = rule("FREQ=MONTHLY", LocalDate.of(2024, 1, 31));
+
+        assertThat(RecurrenceRules.occurrences(monthly, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 5, 31), 100))
+                .containsExactly(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 3, 31), LocalDate.of(2024, 5, 31));
+    }
+
+    @Test
+    void countIsStoredAsUntilDate() {
+        RecurringTodo fiveTimes = rule("FREQ=WEEKLY;BYDAY=TU,TH;COUNT=5", LocalDate.of(2024, 5, 7));
+
+        assertThat(fiveTimes.getUntilDate()).isEqualTo(LocalDate.of(2024, 5, 21));
+        assertThat(RecurrenceRules.isOccurrence(fiveTimes, LocalDate.of(2024, 5, 21))).isTrue();
+        assertThat(RecurrenceRules.isOccurrence(fiveTimes, LocalDate.of(2024, 5, 23))).isFalse();
+        assertThat(RecurrenceRules.format(fiveTimes)).isEqualTo("FREQ=WEEKLY;INTERVAL=1;BYDAY=TU,TH;UNTIL=20240521");
+    }
+
+    @Test
+    void startDateOutsideByDayIsTheFirstOccurrence() {
+        // 2024-05-06 은 월요일, BYDAY 는 화요일만
+        RecurringTodo threeTimes = rule("FREQ=WEEKLY;BYDAY=TU;COUNT=3", LocalDate.of(2024, 5, 6));
+
+        assertThat(RecurrenceRules.occurrences(threeTimes, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31), 100))
+                .containsExactly(LocalDate.of(2024, 5, 6), LocalDate.of(2024, 5, 7), LocalDate.of(2024, 5, 14));
+        assertThat(threeTimes.getUntilDate()).isEqualTo(LocalDate.of(2024, 5, 14));
+        assertThat(RecurrenceRules.occurrences(threeTimes, LocalDate.of(2024, 5, 7), LocalDate.of(2024, 5, 31), 100))
+                .containsExactly(LocalDate.of(2024, 5, 7), LocalDate.of(2024, 5, 14));
+    }
+
+    @Test
+    void rejectsUnsupportedRules() {
+        assertThatThrownBy(() -> rule("FREQ=YEARLY", LocalDate.of(2024, 1, 1)))
+                .isInstanceOf(CustomValidationException.class);
+        assertThatThrownBy(() -> rule("FREQ=DAILY;BYDAY=MO", LocalDate.of(2024, 1, 1)))
+                .isInstanceOf(CustomValidationException.class);
+        assertThatThrownBy(() -> rule("FREQ=DAILY;BYMONTHDAY=1", LocalDate.of(2024, 1, 1)))
+                .isInstanceOf(CustomValidationException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.server.calendar.todo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.server.calendar.todo.dto.MonthVersionRow;
+import com.server.calendar.todo.repository.TodoMonthVersionRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+
+class TodoVersionsTests {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 5, 10);
+    private static final YearMonth MONTH = YearMonth.of(2024, 5);
+
+    private final TodoMonthVersionRepository repository = mock(TodoMonthVersionRepository.class);
+    private final TodoVersions todoVersions = new TodoVersions(repository);
+
+    @Test
+    void usersWithTheSameVersionGetDifferentTags() {
+        returnVersion(3L, 0L);
+
+        String day = todoVersions.read(1L, MONTH).dayETag(DAY);
+        String month = todoVersions.read(1L, MONTH).monthETag();
+
+        assertThat(todoVersions.read(2L, MONTH).dayETag(DAY)).isNotEqualTo(day);
+        assertThat(todoVersions.read(2L, MONTH).monthETag()).isNotEqualTo(month);
+        assertThat(todoVersions.read(1L, MONTH).dayETag(DAY)).isEqualTo(day);
+        assertThat(TodoVersions.matches(day, todoVersions.read(2L, MONTH).dayETag(DAY))).isFalse();
+    }
+
+    @Test
+    void recurringRulesAreReadOnlyAfterTheUserChangedThem() {
+        returnVersion(3L, 0L);
+        assertThat(todoVersions.read(1L, MONTH).mayHaveRecurring()).isFalse();
+
+        returnVersion(4L, 1L);
+        assertThat(todoVersions.read(1L, MONTH).mayHaveRecurring()).isTrue();
+    }
+
+    private void returnVersion(long version, long recurringVersion) {
+        MonthVersionRow row = mock(MonthVersionRow.class);
+        when(row.getVersion()).thenReturn(version);
+        when(row.getRecurringVersion()).thenReturn(recurringVersion);
+        when(repository.findVersion(anyLong(), anyInt())).thenReturn(row);
+    }
+}
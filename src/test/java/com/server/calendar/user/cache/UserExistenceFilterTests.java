@@ -0,0 +1,58 @@
+package com.server.calendar.user.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class UserExistenceFilterTests {
+
+    @Autowired
+    private UserExistenceFilter userExistenceFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from users");
+        userExistenceFilter.rebuild();
+    }
+
+    @Test
+    void rebuildLoadsExistingUsersAndMissesAreDefinite() {
+        for (int u = 1; u <= 50; u++) {
+            jdbcTemplate.update("insert into users (user_id, email, password) values (?, ?, 'pw')",
+                    "filteruser" + u, "Filter" + u + "@Test.com");
+        }
+        userExistenceFilter.rebuild();
+
+        for (int u = 1; u <= 50; u++) {
+            assertThat(userExistenceFilter.mightContainUserId("filteruser" + u)).isTrue();
+            // 이메일은 대소문자 구분 없이 비교
+            assertThat(userExistenceFilter.mightContainEmail("filter" + u + "@test.com")).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int u = 1; u <= 1000; u++) {
+            if (userExistenceFilter.mightContainUserId("freshuser" + u)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(50);
+    }
+
+    @Test
+    void signupIsVisibleWithoutRebuild() {
+        assertThat(userExistenceFilter.mightContainUserId("newcomer1")).isFalse();
+
+        userExistenceFilter.add("newcomer1", "newcomer1@test.com");
+
+        assertThat(userExistenceFilter.mightContainUserId("newcomer1")).isTrue();
+        assertThat(userExistenceFilter.mightContainEmail("newcomer1@test.com")).isTrue();
+    }
+}
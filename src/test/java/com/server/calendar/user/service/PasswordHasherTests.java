@@ -0,0 +1,106 @@
+package com.server.calendar.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.server.calendar.util.exception.PasswordHashRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class PasswordHasherTests {
+
+    private final ExecutorService continuationExecutor = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "continuation"));
+
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.destroy();
+        continuationExecutor.shutdown();
+    }
+
+    @Test
+    void rejectsImmediatelyWhenExecutorIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        passwordHasher = new PasswordHasher(new BlockingEncoder(release), new SimpleMeterRegistry(), continuationExecutor, 1, 1);
+
+        CompletableFuture<String> running = passwordHasher.encode("first");
+        CompletableFuture<String> queued = passwordHasher.encode("second");
+
+        assertThatThrownBy(() -> passwordHasher.encode("third"))
+                .isInstanceOf(PasswordHashRejectedException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isNotBlank();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotBlank();
+    }
+
+    @Test
+    void rehashesOnlyHashesWithLowerCost() throws Exception {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), new SimpleMeterRegistry(), continuationExecutor, 1, 10);
+        String outdated = new BCryptPasswordEncoder(4).encode("Passw0rd!");
+        String current = new BCryptPasswordEncoder(5).encode("Passw0rd!");
+
+        AtomicReference<String> stored = new AtomicReference<>();
+        CountDownLatch rehashed = new CountDownLatch(1);
+        passwordHasher.rehashIfOutdated("Passw0rd!", outdated, encoded -> {
+            stored.set(encoded);
+            rehashed.countDown();
+        });
+        passwordHasher.rehashIfOutdated("Passw0rd!", current, encoded -> {
+            throw new AssertionError("current hash must not be rehashed");
+        });
+
+        assertThat(rehashed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(stored.get()).startsWith("$2a$05$");
+        assertThat(passwordHasher.matches("Passw0rd!", stored.get()).get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void workAfterHashingRunsOffTheHashExecutor() throws Exception {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), new SimpleMeterRegistry(), continuationExecutor, 1, 10);
+
+        // 저장/토큰 발급처럼 해시 뒤에 이어지는 작업은 해시 스레드를 쓰지 않음
+        String encodeThread = passwordHasher.encode("Passw0rd!").thenApply(encoded -> Thread.currentThread().getName())
+                .get(5, TimeUnit.SECONDS);
+        assertThat(encodeThread).isEqualTo("continuation");
+
+        AtomicReference<String> storeThread = new AtomicReference<>();
+        CountDownLatch rehashed = new CountDownLatch(1);
+        passwordHasher.rehashIfOutdated("Passw0rd!", new BCryptPasswordEncoder(4).encode("Passw0rd!"), encoded -> {
+            storeThread.set(Thread.currentThread().getName());
+            rehashed.countDown();
+        });
+        assertThat(rehashed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(storeThread.get()).isEqualTo("continuation");
+    }
+
+    // 해시를 끝내지 않고 붙잡아 두어 실행기를 가득 채우는 인코더
+    private static class BlockingEncoder extends BCryptPasswordEncoder {
+
+        private final CountDownLatch release;
+
+        BlockingEncoder(CountDownLatch release) {
+            super(4);
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.server.calendar.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.server.calendar.todo.repository.RecurringTodoCompletionRepository;
+import com.server.calendar.todo.repository.RecurringTodoRepository;
+import com.server.calendar.todo.repository.TodoRepository;
+import com.server.calendar.todo.service.TodoStatsUpdater;
+import com.server.calendar.user.cache.UserKeyCache;
+import com.server.calendar.user.repository.UserRepository;
+import com.server.calendar.util.datasource.ShardDirectory;
+import com.server.calendar.util.exception.UserPurgeRejectedException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class UserPurgerTests {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // 스레드 1개, 대기열 없음 - 첫 작업이 도는 동안 두 번째 작업은 거절됨
+    private final UserPurger userPurger = new UserPurger(todoRepository, userRepository, mock(UserKeyCache.class),
+            mock(TodoStatsUpdater.class), mock(RecurringTodoRepository.class), mock(RecurringTodoCompletionRepository.class),
+            mock(ShardDirectory.class), mock(PlatformTransactionManager.class), 1000, 1, 0);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        userPurger.destroy();
+    }
+
+    @Test
+    void rejectedPurgeLeavesNoJobBehind() throws Exception {
+        when(userRepository.findIdByUserId(any())).thenReturn(Optional.of(1L));
+        when(todoRepository.findIdsByUserKeyAfter(anyLong(), anyLong(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        String running = userPurger.purgeAsync("purgeuser1");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> userPurger.purgeAsync("purgeuser2"))
+                .isInstanceOf(UserPurgeRejectedException.class);
+
+        // 거절된 작업은 등록되지 않고, 먼저 넘긴 작업은 그대로 조회됨
+        assertThat(userPurger.getProgress(running, "purgeuser1").getStatus()).isEqualTo("RUNNING");
+    }
+}
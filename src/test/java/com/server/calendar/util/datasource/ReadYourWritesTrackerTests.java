@@ -0,0 +1,48 @@
+package com.server.calendar.util.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.server.calendar.util.jwt.JwtPrincipal;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class ReadYourWritesTrackerTests {
+
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        JwtPrincipal principal = new JwtPrincipal("rywuser1", "USER", new Date());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writeIsPinnedBeforeTheHandlerCommits() {
+        // 핸들러 실행(커밋, 응답) 전에 이미 고정되어 있어야 다음 조회가 복제본으로 가지 않음
+        tracker.preHandle(new MockHttpServletRequest("PUT", "/api/todo/checking/1"), new MockHttpServletResponse(), null);
+
+        assertThat(tracker.isPinnedToPrimary()).isTrue();
+    }
+
+    @Test
+    void readsDoNotPin() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todo/oneDay/2024-05-10");
+        tracker.preHandle(request, new MockHttpServletResponse(), null);
+        tracker.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+        assertThat(tracker.isPinnedToPrimary()).isFalse();
+    }
+}
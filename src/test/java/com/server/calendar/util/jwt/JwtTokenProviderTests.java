@@ -0,0 +1,63 @@
+package com.server.calendar.util.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class JwtTokenProviderTests {
+
+    private static final String SECRET_KEY = "c0bb9a9cdbcf8de93ceb7e0deff12f2aff3cabec9c652a45584a97cf8fbcfd91";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, "HS256", "admin1, admin2");
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void onlyConfiguredUserIdsReceiveAdminRole() {
+        assertThat(jwtTokenProvider.parseToken(jwtTokenProvider.createToken("admin2")).getRoles()).isEqualTo("USER,ADMIN");
+        assertThat(jwtTokenProvider.parseToken(jwtTokenProvider.createToken("user1")).getRoles()).isEqualTo("USER");
+    }
+
+    @Test
+    void filterGrantsEveryRoleInTheToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + jwtTokenProvider.createToken("admin1"));
+
+        new JwtTokenFilter(jwtTokenProvider, new SimpleMeterRegistry())
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        List<String> authorities = SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        assertThat(authorities).containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void tokenWithoutRolesIsUnauthorized() throws Exception {
+        String token = Jwts.builder().setSubject("user1").setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, TextCodec.BASE64.decode(SECRET_KEY)).compact();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new JwtTokenFilter(jwtTokenProvider, new SimpleMeterRegistry()).doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}